@@ -0,0 +1,81 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+import { authHeaders } from './auth.js';
+import { BASE_URL } from './config.js';
+
+// Requests turned away by the rate limiter (429) or the concurrency limit (503), by endpoint.
+// A rising count is the first sign that the arrival rate is past what the service admits.
+export const shed = new Counter('shed_requests');
+
+// 429 and 503 are load shedding, not failures of the endpoint under test
+http.setResponseCallback(http.expectedStatuses({ min: 200, max: 399 }, 429, 503));
+
+/**
+ * Every request is tagged with the same URI template Spring reports in http_server_requests, so k6
+ * numbers and the Grafana panels line up endpoint by endpoint.
+ */
+function send(data, method, name, path, body, extraHeaders, expected) {
+  const headers = Object.assign({ 'Content-Type': 'application/json' }, authHeaders(data), extraHeaders);
+  const res = http.request(method, `${BASE_URL}${path}`, body === null ? null : JSON.stringify(body), {
+    headers,
+    tags: { name: `${method} ${name}` },
+  });
+  if (res.status === 429 || res.status === 503) {
+    shed.add(1, { name: `${method} ${name}`, status: String(res.status) });
+    return res;
+  }
+  check(res, { [`${method} ${name} is ${expected.join('/')}`]: (r) => expected.includes(r.status) });
+  return res;
+}
+
+export function listUsers(data, query = '') {
+  return send(data, 'GET', '/api/users', `/api/users${query}`, null, {}, [200]);
+}
+
+export function getUser(data, id, etag) {
+  const headers = etag ? { 'If-None-Match': etag } : {};
+  return send(data, 'GET', '/api/users/{id}', `/api/users/${id}`, null, headers, [200, 304]);
+}
+
+export function createUser(data, user) {
+  return send(data, 'POST', '/api/users', '/api/users', user, {}, [201]);
+}
+
+export function createUsers(data, users) {
+  return send(data, 'POST', '/api/users/bulk', '/api/users/bulk', { users }, {}, [200]);
+}
+
+export function updateUser(data, id, changes) {
+  return send(data, 'PUT', '/api/users/{id}', `/api/users/${id}`, changes, {}, [200]);
+}
+
+export function deleteUser(data, id) {
+  return send(data, 'DELETE', '/api/users/{id}', `/api/users/${id}`, null, {}, [204]);
+}
+
+export function listProjects(data, userId, query = '', etag) {
+  const headers = etag ? { 'If-None-Match': etag } : {};
+  return send(data, 'GET', '/api/users/{userId}/projects', `/api/users/${userId}/projects${query}`,
+    null, headers, [200, 304]);
+}
+
+export function getProject(data, userId, projectId) {
+  return send(data, 'GET', '/api/users/{userId}/projects/{projectId}',
+    `/api/users/${userId}/projects/${encodeURIComponent(projectId)}`, null, {}, [200]);
+}
+
+export function addProject(data, userId, project) {
+  return send(data, 'POST', '/api/users/{userId}/projects', `/api/users/${userId}/projects`,
+    project, {}, [201]);
+}
+
+export function updateProject(data, userId, projectId, changes) {
+  return send(data, 'PUT', '/api/users/{userId}/projects/{projectId}',
+    `/api/users/${userId}/projects/${encodeURIComponent(projectId)}`, changes, {}, [200]);
+}
+
+export function upsertProjects(data, userId, projects) {
+  return send(data, 'POST', '/api/users/{userId}/projects/bulk', `/api/users/${userId}/projects/bulk`,
+    { projects }, {}, [200]);
+}
@@ -0,0 +1,59 @@
+import http from 'k6/http';
+import encoding from 'k6/encoding';
+import { fail } from 'k6';
+import { ADMIN_PASS, ADMIN_USER, AUTH, BASE_URL } from './config.js';
+
+const basic = `Basic ${encoding.b64encode(`${ADMIN_USER}:${ADMIN_PASS}`)}`;
+
+// Token held by this VU; starts as the one minted in setup and is renewed shortly before it expires
+let token = null;
+let expiresAt = 0;
+
+/**
+ * Mints a bearer token with HTTP Basic. Returns null when the token endpoint rejects the call
+ * (it is rate limited per client), so callers can decide whether that is fatal.
+ */
+export function issueToken() {
+  const res = http.post(`${BASE_URL}/api/auth/token`, null, {
+    headers: { Authorization: basic },
+    tags: { name: 'POST /api/auth/token' },
+  });
+  if (res.status !== 200) {
+    return null;
+  }
+  return { token: res.json('accessToken'), expiresAt: Date.now() + res.json('expiresIn') * 1000 };
+}
+
+/** Called from setup(): the result is handed to every VU through the setup data. */
+export function initialToken() {
+  if (AUTH === 'basic') {
+    return null;
+  }
+  const issued = issueToken();
+  if (!issued) {
+    fail('Could not obtain a bearer token; check ADMIN_USER / ADMIN_PASS');
+  }
+  return issued;
+}
+
+/** Authorization header for the current VU. */
+export function authHeaders(data) {
+  if (AUTH === 'basic' || !data.auth) {
+    return { Authorization: basic };
+  }
+  if (token === null) {
+    token = data.auth.token;
+    expiresAt = data.auth.expiresAt;
+  }
+  if (Date.now() > expiresAt - 60 * 1000) {
+    const renewed = issueToken();
+    if (renewed) {
+      token = renewed.token;
+      expiresAt = renewed.expiresAt;
+    } else if (Date.now() >= expiresAt) {
+      // Renewal was rate limited and the old token is gone: fall back to Basic until the next attempt
+      return { Authorization: basic };
+    }
+  }
+  return { Authorization: `Bearer ${token}` };
+}
@@ -0,0 +1,24 @@
+// Settings shared by every scenario. Override any of them with `k6 run -e NAME=value`.
+export const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+export const ADMIN_USER = __ENV.ADMIN_USER || 'admin';
+export const ADMIN_PASS = __ENV.ADMIN_PASS || 'admin';
+
+// "bearer" (default) mints a token in setup; "basic" sends HTTP Basic on every request like legacy clients
+export const AUTH = __ENV.AUTH || 'bearer';
+
+// Data created in setup and removed in teardown
+export const SEED_USERS = int('SEED_USERS', 500);
+export const SEED_PROJECT_USERS = int('SEED_PROJECT_USERS', 20);
+export const SEED_PROJECTS_PER_USER = int('SEED_PROJECTS_PER_USER', 50);
+
+// Arrival rate (iterations per second) and shape of the steady scenarios
+export const RATE = int('RATE', 50);
+export const RAMP = __ENV.RAMP || '30s';
+export const DURATION = __ENV.DURATION || '2m';
+export const MAX_VUS = int('MAX_VUS', 300);
+
+export const GRAFANA_URL = __ENV.GRAFANA_URL || 'http://localhost:3000';
+
+function int(name, fallback) {
+  return __ENV[name] ? parseInt(__ENV[name], 10) : fallback;
+}
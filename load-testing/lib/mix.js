@@ -0,0 +1,19 @@
+// Production-like mix used by the mixed and knee scenarios: mostly reads, some project edits, few registrations.
+export const MIX = {
+  browseUsers: 50,
+  browseProjects: 30,
+  editProjects: 15,
+  userLifecycle: 5,
+};
+
+export const MIX_ENDPOINTS = [
+  'GET /api/users',
+  'GET /api/users/{id}',
+  'POST /api/users',
+  'PUT /api/users/{id}',
+  'DELETE /api/users/{id}',
+  'GET /api/users/{userId}/projects',
+  'GET /api/users/{userId}/projects/{projectId}',
+  'POST /api/users/{userId}/projects',
+  'PUT /api/users/{userId}/projects/{projectId}',
+];
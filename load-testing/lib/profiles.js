@@ -0,0 +1,44 @@
+import { DURATION, MAX_VUS, RAMP, RATE } from './config.js';
+
+/**
+ * One ramping-arrival-rate scenario per workload, each receiving its share of the total rate. Arrival rates
+ * (rather than a fixed number of looping VUs) keep the offered load constant when the service slows down,
+ * so latency grows instead of being hidden by fewer requests.
+ */
+export function steady(weights, rate = RATE) {
+  return arrivalRate(weights, (share) => [
+    { target: Math.max(1, Math.round(rate * share)), duration: RAMP },
+    { target: Math.max(1, Math.round(rate * share)), duration: DURATION },
+    { target: 0, duration: '10s' },
+  ]);
+}
+
+/** Same mix, but the total rate climbs from `from` to `to` in `step` increments, each held for `hold`. */
+export function staircase(weights, from, to, step, hold) {
+  return arrivalRate(weights, (share) => {
+    const stages = [];
+    for (let rate = from; rate <= to; rate += step) {
+      const target = Math.max(1, Math.round(rate * share));
+      stages.push({ target, duration: '10s' }, { target, duration: hold });
+    }
+    return stages;
+  });
+}
+
+function arrivalRate(weights, stagesFor) {
+  const total = Object.values(weights).reduce((sum, weight) => sum + weight, 0);
+  const scenarios = {};
+  for (const [name, weight] of Object.entries(weights)) {
+    const share = weight / total;
+    scenarios[name] = {
+      executor: 'ramping-arrival-rate',
+      exec: name,
+      startRate: 0,
+      timeUnit: '1s',
+      preAllocatedVUs: Math.max(1, Math.ceil(MAX_VUS * share / 4)),
+      maxVUs: Math.max(1, Math.ceil(MAX_VUS * share)),
+      stages: stagesFor(share),
+    };
+  }
+  return scenarios;
+}
@@ -0,0 +1,66 @@
+import { sleep } from 'k6';
+import { createUsers, deleteUser, upsertProjects } from './api.js';
+import { initialToken } from './auth.js';
+import { SEED_PROJECT_USERS, SEED_PROJECTS_PER_USER, SEED_USERS } from './config.js';
+
+const BULK_SIZE = 1000;
+
+/**
+ * Creates SEED_USERS users and gives the first SEED_PROJECT_USERS of them SEED_PROJECTS_PER_USER projects.
+ * Everything is namespaced by a run ID so concurrent or aborted runs never collide.
+ */
+export function seed() {
+  const runId = `${Date.now().toString(36)}${Math.floor(Math.random() * 1e6).toString(36)}`;
+  const data = { runId, auth: initialToken(), userIds: [], projectUserIds: [] };
+
+  for (let from = 0; from < SEED_USERS; from += BULK_SIZE) {
+    const users = [];
+    for (let i = from; i < Math.min(from + BULK_SIZE, SEED_USERS); i++) {
+      users.push(newUser(runId, `seed-${i}`));
+    }
+    const res = withRetry(() => createUsers(data, users));
+    for (const result of res.json('results')) {
+      if (result.status === 'CREATED') {
+        data.userIds.push(result.id);
+      }
+    }
+  }
+
+  for (const userId of data.userIds.slice(0, SEED_PROJECT_USERS)) {
+    const projects = [];
+    for (let i = 0; i < SEED_PROJECTS_PER_USER; i++) {
+      projects.push({ id: `${runId}-seed-${i}`, name: `Seed project ${i}` });
+    }
+    withRetry(() => upsertProjects(data, userId, projects));
+    data.projectUserIds.push(userId);
+  }
+
+  console.log(`Seeded ${data.userIds.length} users and ${data.projectUserIds.length * SEED_PROJECTS_PER_USER} projects (run ${runId})`);
+  return data;
+}
+
+/** Deletes the seeded users; their projects go with them (ON DELETE CASCADE). */
+export function cleanUp(data) {
+  for (const userId of data.userIds) {
+    withRetry(() => deleteUser(data, userId));
+  }
+}
+
+export function newUser(runId, suffix) {
+  return {
+    email: `k6-${runId}-${suffix}@load.test`,
+    password: 'load-test-password',
+    name: `Load test ${suffix}`,
+  };
+}
+
+/** Setup and teardown run as a single client, so they wait out the rate limiter instead of failing. */
+function withRetry(request) {
+  for (let attempt = 1; ; attempt++) {
+    const res = request();
+    if ((res.status !== 429 && res.status !== 503) || attempt === 10) {
+      return res;
+    }
+    sleep(parseInt(res.headers['Retry-After'] || '1', 10));
+  }
+}
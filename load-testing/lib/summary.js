@@ -0,0 +1,29 @@
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.1.0/index.js';
+import { GRAFANA_URL } from './config.js';
+
+const RESULTS_DIR = __ENV.RESULTS_DIR || 'results';
+
+// Percentiles kept for every trend in the console and in the exported JSON
+export const SUMMARY_TREND_STATS = ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'];
+
+/**
+ * Builds a handleSummary that writes results/<scenario>-<timestamp>.json next to the console summary.
+ * The file records the run's time window and a Grafana link to the same window, so client-side
+ * percentiles can be read against server metrics (pool, bulkhead, shedding) for exactly that run.
+ */
+export function summaryFor(scenario) {
+  return function (data) {
+    const to = Date.now();
+    const from = to - Math.round(data.state.testRunDurationMs);
+    const stamp = new Date(from).toISOString().replace(/[:.]/g, '-');
+    const report = Object.assign({}, data, {
+      scenario,
+      window: { from: new Date(from).toISOString(), to: new Date(to).toISOString() },
+      grafana: `${GRAFANA_URL}/d/partner-hub-dashboard?from=${from}&to=${to}`,
+    });
+    return {
+      stdout: textSummary(data, { indent: ' ', enableColors: true }) + `\n\n Grafana: ${report.grafana}\n`,
+      [`${RESULTS_DIR}/${scenario}-${stamp}.json`]: JSON.stringify(report, null, 2),
+    };
+  };
+}
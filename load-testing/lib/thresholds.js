@@ -0,0 +1,34 @@
+// Latency objectives per endpoint, in milliseconds. Tag filters in threshold names also make k6 print
+// (and export) the duration trend of each endpoint separately in the summary.
+const SLOS = {
+  'GET /api/users': { p95: 300, p99: 800 },
+  'GET /api/users/{id}': { p95: 50, p99: 150 },
+  'POST /api/users': { p95: 300, p99: 600 },
+  'POST /api/users/bulk': { p95: 2000, p99: 4000 },
+  'PUT /api/users/{id}': { p95: 300, p99: 600 },
+  'DELETE /api/users/{id}': { p95: 100, p99: 250 },
+  'GET /api/users/{userId}/projects': { p95: 100, p99: 250 },
+  'GET /api/users/{userId}/projects/{projectId}': { p95: 50, p99: 150 },
+  'POST /api/users/{userId}/projects': { p95: 100, p99: 250 },
+  'PUT /api/users/{userId}/projects/{projectId}': { p95: 100, p99: 250 },
+  'POST /api/users/{userId}/projects/bulk': { p95: 500, p99: 1000 },
+};
+
+/**
+ * Thresholds for the given endpoints plus the global error budget. With abortOnFail a run stops as soon as
+ * an objective has been missed for a while, which is what the knee search wants; steady runs keep going.
+ */
+export function thresholdsFor(endpoints, abortOnFail = false) {
+  const thresholds = {
+    http_req_failed: [{ threshold: 'rate<0.01', abortOnFail, delayAbortEval: '30s' }],
+    checks: ['rate>0.99'],
+  };
+  for (const name of endpoints) {
+    const slo = SLOS[name];
+    thresholds[`http_req_duration{name:${name}}`] = [
+      { threshold: `p(95)<${slo.p95}`, abortOnFail, delayAbortEval: '30s' },
+      { threshold: `p(99)<${slo.p99}`, abortOnFail, delayAbortEval: '30s' },
+    ];
+  }
+  return thresholds;
+}
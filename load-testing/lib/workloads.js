@@ -0,0 +1,76 @@
+import { sleep } from 'k6';
+import exec from 'k6/execution';
+import * as api from './api.js';
+import { SEED_PROJECTS_PER_USER } from './config.js';
+import { newUser } from './seed.js';
+
+// ETags this VU has seen, so repeated reads revalidate like a caching client would
+const etags = {};
+
+function pick(items) {
+  return items[Math.floor(Math.random() * items.length)];
+}
+
+function uniqueSuffix() {
+  return `${exec.vu.idInTest}-${exec.vu.iterationInInstance}`;
+}
+
+/** Reads users the way the partner UI does: a page of the listing, then a few profiles. */
+export function browseUsers(data) {
+  if (Math.random() < 0.05) {
+    // Legacy clients still fetch the whole listing
+    api.listUsers(data);
+  } else {
+    api.listUsers(data, `?limit=20`);
+  }
+  for (let i = 0; i < 3; i++) {
+    const id = pick(data.userIds);
+    const res = api.getUser(data, id, etags[`user-${id}`]);
+    if (res.headers['Etag']) {
+      etags[`user-${id}`] = res.headers['Etag'];
+    }
+  }
+  sleep(Math.random());
+}
+
+/** Lists a user's projects (first page and sometimes the next one) and opens one of them. */
+export function browseProjects(data) {
+  const userId = pick(data.projectUserIds);
+  const key = `projects-${userId}`;
+  const res = api.listProjects(data, userId, '?limit=20', etags[key]);
+  if (res.headers['Etag']) {
+    etags[key] = res.headers['Etag'];
+  }
+  const next = res.headers['X-Next-Cursor'];
+  if (next && Math.random() < 0.3) {
+    api.listProjects(data, userId, `?limit=20&after=${encodeURIComponent(next)}`);
+  }
+  api.getProject(data, userId, `${data.runId}-seed-${Math.floor(Math.random() * SEED_PROJECTS_PER_USER)}`);
+  sleep(Math.random());
+}
+
+/** Adds a project to a seeded user, renames it and reloads the listing. */
+export function editProjects(data) {
+  const userId = pick(data.projectUserIds);
+  const projectId = `${data.runId}-${uniqueSuffix()}`;
+  const created = api.addProject(data, userId, { id: projectId, name: `Project ${projectId}` });
+  if (created.status !== 201) {
+    return;
+  }
+  api.updateProject(data, userId, projectId, { name: `Renamed ${projectId}` });
+  api.listProjects(data, userId, '?limit=20');
+}
+
+/** Full user lifecycle: register, read, revalidate, update and delete. */
+export function userLifecycle(data) {
+  const user = newUser(data.runId, uniqueSuffix());
+  const created = api.createUser(data, user);
+  if (created.status !== 201) {
+    return;
+  }
+  const id = created.json('id');
+  const read = api.getUser(data, id);
+  api.getUser(data, id, read.headers['Etag']);
+  api.updateUser(data, id, { email: user.email, name: `${user.name} (updated)` });
+  api.deleteUser(data, id);
+}
@@ -0,0 +1,21 @@
+#!/bin/sh
+# Runs one scenario from load-testing/scenarios and writes its summary to load-testing/results.
+#
+#   load-testing/run.sh <users|projects|mixed|knee> [k6 options...]
+#   load-testing/run.sh mixed -e RATE=200 -e DURATION=10m
+#
+# Uses a local k6 when installed, otherwise the grafana/k6 image on the host network.
+set -eu
+
+scenario=${1:?usage: run.sh <users|projects|mixed|knee> [k6 options...]}
+shift
+dir=$(cd "$(dirname "$0")" && pwd)
+mkdir -p "$dir/results"
+
+if command -v k6 >/dev/null 2>&1; then
+  cd "$dir"
+  exec k6 run "$@" "scenarios/$scenario.js"
+fi
+exec docker run --rm -i --network host --user "$(id -u):$(id -g)" \
+  -v "$dir:/scripts" -w /scripts \
+  grafana/k6:latest run "$@" "scenarios/$scenario.js"
@@ -0,0 +1,67 @@
+// Throughput knee search: the mixed workload with a total arrival rate climbing in steps. Every request is
+// tagged with its step, and the summary reports p95/p99 and error rate per step, so the knee is the first
+// step where latency bends upwards or requests start being shed. The run aborts once the objectives have
+// been missed for 30s, since later steps only measure an overloaded service.
+//   ./run.sh knee -e START_RATE=50 -e MAX_RATE=1000 -e STEP_RATE=50 -e STEP_HOLD=1m
+import exec from 'k6/execution';
+import { cleanUp, seed } from '../lib/seed.js';
+import { MIX, MIX_ENDPOINTS } from '../lib/mix.js';
+import { staircase } from '../lib/profiles.js';
+import { SUMMARY_TREND_STATS, summaryFor } from '../lib/summary.js';
+import { thresholdsFor } from '../lib/thresholds.js';
+import * as workloads from '../lib/workloads.js';
+
+const START_RATE = parseInt(__ENV.START_RATE || '50', 10);
+const MAX_RATE = parseInt(__ENV.MAX_RATE || '1000', 10);
+const STEP_RATE = parseInt(__ENV.STEP_RATE || '50', 10);
+const STEP_HOLD = __ENV.STEP_HOLD || '1m';
+
+const steps = Math.floor((MAX_RATE - START_RATE) / STEP_RATE) + 1;
+const stepMillis = 10 * 1000 + parseDuration(STEP_HOLD);
+
+const thresholds = thresholdsFor(MIX_ENDPOINTS, true);
+for (let step = 0; step < steps; step++) {
+  // Never fails; declaring the sub-metrics is what makes them appear in the summary
+  const tag = `{step:${stepLabel(step)}}`;
+  thresholds[`http_req_duration${tag}`] = ['max>=0'];
+  thresholds[`http_req_failed${tag}`] = ['rate>=0'];
+  thresholds[`http_reqs${tag}`] = ['count>=0'];
+  thresholds[`shed_requests${tag}`] = ['count>=0'];
+}
+
+export const options = {
+  scenarios: staircase(MIX, START_RATE, MAX_RATE, STEP_RATE, STEP_HOLD),
+  thresholds,
+  summaryTrendStats: SUMMARY_TREND_STATS,
+  // Seeding waits out the rate limiter when it is enabled
+  setupTimeout: '5m',
+  teardownTimeout: '5m',
+};
+
+export const setup = seed;
+export const teardown = cleanUp;
+export const handleSummary = summaryFor('knee');
+
+function tagged(workload) {
+  return (data) => {
+    const step = Math.min(steps - 1, Math.floor((Date.now() - exec.scenario.startTime) / stepMillis));
+    exec.vu.metrics.tags.step = stepLabel(step);
+    workload(data);
+  };
+}
+
+export const browseUsers = tagged(workloads.browseUsers);
+export const browseProjects = tagged(workloads.browseProjects);
+export const editProjects = tagged(workloads.editProjects);
+export const userLifecycle = tagged(workloads.userLifecycle);
+
+// "03@200rps": zero-padded so steps sort in order, with the offered rate for reading the summary
+function stepLabel(step) {
+  return `${String(step).padStart(2, '0')}@${START_RATE + step * STEP_RATE}rps`;
+}
+
+function parseDuration(value) {
+  const match = /^(\d+)(ms|s|m|h)$/.exec(value);
+  const unit = { ms: 1, s: 1000, m: 60 * 1000, h: 60 * 60 * 1000 }[match[2]];
+  return parseInt(match[1], 10) * unit;
+}
@@ -0,0 +1,21 @@
+// Realistic read/write mix at a constant arrival rate, checked against the per-endpoint objectives.
+//   ./run.sh mixed -e RATE=200 -e DURATION=10m
+import { cleanUp, seed } from '../lib/seed.js';
+import { MIX, MIX_ENDPOINTS } from '../lib/mix.js';
+import { steady } from '../lib/profiles.js';
+import { SUMMARY_TREND_STATS, summaryFor } from '../lib/summary.js';
+import { thresholdsFor } from '../lib/thresholds.js';
+export { browseProjects, browseUsers, editProjects, userLifecycle } from '../lib/workloads.js';
+
+export const options = {
+  scenarios: steady(MIX),
+  thresholds: thresholdsFor(MIX_ENDPOINTS),
+  summaryTrendStats: SUMMARY_TREND_STATS,
+  // Seeding waits out the rate limiter when it is enabled
+  setupTimeout: '5m',
+  teardownTimeout: '5m',
+};
+
+export const setup = seed;
+export const teardown = cleanUp;
+export const handleSummary = summaryFor('mixed');
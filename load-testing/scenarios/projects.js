@@ -0,0 +1,25 @@
+// Project reads and writes on seeded users: 70% browsing (paginated listing, conditional GETs), 30% add + rename.
+//   ./run.sh projects -e RATE=100 -e SEED_PROJECT_USERS=50
+import { cleanUp, seed } from '../lib/seed.js';
+import { steady } from '../lib/profiles.js';
+import { SUMMARY_TREND_STATS, summaryFor } from '../lib/summary.js';
+import { thresholdsFor } from '../lib/thresholds.js';
+export { browseProjects, editProjects } from '../lib/workloads.js';
+
+export const options = {
+  scenarios: steady({ browseProjects: 7, editProjects: 3 }),
+  thresholds: thresholdsFor([
+    'GET /api/users/{userId}/projects',
+    'GET /api/users/{userId}/projects/{projectId}',
+    'POST /api/users/{userId}/projects',
+    'PUT /api/users/{userId}/projects/{projectId}',
+  ]),
+  summaryTrendStats: SUMMARY_TREND_STATS,
+  // Seeding waits out the rate limiter when it is enabled
+  setupTimeout: '5m',
+  teardownTimeout: '5m',
+};
+
+export const setup = seed;
+export const teardown = cleanUp;
+export const handleSummary = summaryFor('projects');
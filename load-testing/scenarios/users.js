@@ -0,0 +1,25 @@
+// User lifecycle at a constant arrival rate: create, read, revalidate, update and delete.
+//   ./run.sh users -e RATE=20
+import { cleanUp, seed } from '../lib/seed.js';
+import { steady } from '../lib/profiles.js';
+import { SUMMARY_TREND_STATS, summaryFor } from '../lib/summary.js';
+import { thresholdsFor } from '../lib/thresholds.js';
+export { userLifecycle } from '../lib/workloads.js';
+
+export const options = {
+  scenarios: steady({ userLifecycle: 1 }),
+  thresholds: thresholdsFor([
+    'POST /api/users',
+    'GET /api/users/{id}',
+    'PUT /api/users/{id}',
+    'DELETE /api/users/{id}',
+  ]),
+  summaryTrendStats: SUMMARY_TREND_STATS,
+  // Seeding waits out the rate limiter when it is enabled
+  setupTimeout: '5m',
+  teardownTimeout: '5m',
+};
+
+export const setup = seed;
+export const teardown = cleanUp;
+export const handleSummary = summaryFor('users');
@@ -0,0 +1,286 @@
+package com.partnerhub.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk-loads {@code tb_user} and {@code tb_user_external_project} with a synthetic, reproducible dataset for
+ * scale and load testing.
+ * <p>
+ * Users are generated in fixed blocks of {@value #BLOCK_SIZE}, each from its own {@link SplittableRandom}
+ * seeded with the dataset seed and the block index, so the same seed and sizes produce the same rows whatever
+ * the number of workers. Projects per user follow a bounded Pareto distribution: most users have none or a
+ * few, a long tail has hundreds. Workers stream each block through {@code COPY FROM STDIN}, and secondary
+ * indexes are dropped for the load and rebuilt once at the end, which is much cheaper than maintaining them
+ * row by row.
+ * <pre>
+ * ./gradlew generateDataset -Pdatagen.users=10000000 -Pdatagen.truncate=true
+ * </pre>
+ */
+public final class DatasetGenerator {
+
+    static final int BLOCK_SIZE = 10_000;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // Fixed time range rather than "now", so timestamps are reproducible too
+    private static final long FIRST_SIGNUP = Instant.parse("2019-01-01T00:00:00Z").getEpochSecond();
+    private static final long LAST_ACTIVITY = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Bruno", "Carla", "Daniel", "Elena", "Felipe", "Giulia", "Hugo", "Isabel", "Jonas", "Karin",
+            "Lucas", "Maria", "Nadia", "Oscar", "Paula", "Rafael", "Sofia", "Tomas", "Vera", "Wei", "Yara"};
+    private static final String[] LAST_NAMES = {
+            "Almeida", "Becker", "Costa", "Dubois", "Evans", "Ferreira", "Garcia", "Hansen", "Ito", "Jensen",
+            "Kowalski", "Lopez", "Martins", "Novak", "Oliveira", "Peters", "Rossi", "Silva", "Tanaka", "Weber"};
+    private static final String[] DOMAINS = {
+            "example.com", "example.org", "example.net", "partner.test", "mail.test"};
+    private static final String[] ADJECTIVES = {
+            "agile", "blue", "core", "distributed", "edge", "fast", "green", "hybrid", "internal", "legacy",
+            "mobile", "open", "quantum", "rapid", "secure", "smart", "unified", "virtual"};
+    private static final String[] NOUNS = {
+            "api", "billing", "catalog", "dashboard", "engine", "gateway", "hub", "inventory", "ledger", "monitor",
+            "pipeline", "portal", "registry", "scheduler", "search", "service", "store", "tracker"};
+
+    private final DatasetOptions options;
+    private final String passwordHash;
+    private final AtomicLong loadedUsers = new AtomicLong();
+    private final AtomicLong loadedProjects = new AtomicLong();
+
+    DatasetGenerator(DatasetOptions options) throws NoSuchAlgorithmException {
+        this.options = options;
+        // One hash for every user: hashing millions of passwords would dominate the load time
+        SecureRandom saltRandom = SecureRandom.getInstance("SHA1PRNG");
+        saltRandom.setSeed(options.seed());
+        this.passwordHash = "{bcrypt}" + BCrypt.hashpw(options.userPassword(), BCrypt.gensalt(10, saltRandom));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DatasetGenerator(DatasetOptions.parse(args)).run();
+    }
+
+    void run() throws Exception {
+        long started = System.nanoTime();
+        System.out.printf("Generating %,d users (max %d projects each, skew %.2f, seed %d) with %d workers%n",
+                options.users(), options.maxProjects(), options.skew(), options.seed(), options.workers());
+
+        Map<String, String> deferredIndexes = new LinkedHashMap<>();
+        try (Connection connection = connect()) {
+            prepareTables(connection);
+            if (options.deferIndexes()) {
+                deferredIndexes.putAll(dropSecondaryIndexes(connection));
+            }
+        }
+
+        try {
+            load();
+        } finally {
+            try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+                for (Map.Entry<String, String> index : deferredIndexes.entrySet()) {
+                    long indexStarted = System.nanoTime();
+                    statement.execute(index.getValue());
+                    System.out.printf("Rebuilt index %s in %s%n", index.getKey(), elapsedSince(indexStarted));
+                }
+            }
+        }
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // IDs are assigned explicitly, so move the sequence past them for the application
+            statement.execute("SELECT setval('tb_user_id_seq', " + options.users() + ")");
+            statement.execute("ANALYZE tb_user");
+            statement.execute("ANALYZE tb_user_external_project");
+        }
+        System.out.printf("Loaded %,d users and %,d projects in %s%n",
+                loadedUsers.get(), loadedProjects.get(), elapsedSince(started));
+    }
+
+    private void load() throws Exception {
+        long blocks = (options.users() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        AtomicLong nextBlock = new AtomicLong();
+        AtomicBoolean failed = new AtomicBoolean();
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.workers());
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < options.workers(); i++) {
+                results.add(workers.submit(() -> {
+                    try (Connection connection = connect()) {
+                        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                        for (long block = nextBlock.getAndIncrement(); block < blocks && !failed.get();
+                             block = nextBlock.getAndIncrement()) {
+                            loadBlock(copyManager, block);
+                            if ((block + 1) % 100 == 0) {
+                                System.out.printf("  %,d users, %,d projects%n", loadedUsers.get(), loadedProjects.get());
+                            }
+                        }
+                    } catch (Exception e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void loadBlock(CopyManager copyManager, long block) throws SQLException {
+        SplittableRandom random = new SplittableRandom(options.seed() + block * GOLDEN_GAMMA);
+        long firstId = block * BLOCK_SIZE + 1;
+        int size = (int) Math.min(BLOCK_SIZE, options.users() - firstId + 1);
+        long[] signups = new long[size];
+        int[] projectCounts = new int[size];
+        String[] handles = new String[size];
+
+        try (CopyStream users = new CopyStream(copyManager, "tb_user",
+                "id, name, email, password, enabled, created_at, updated_at")) {
+            for (int i = 0; i < size; i++) {
+                long id = firstId + i;
+                String firstName = pick(random, FIRST_NAMES);
+                String lastName = pick(random, LAST_NAMES);
+                handles[i] = (firstName + "." + lastName).toLowerCase(Locale.ROOT) + id;
+                signups[i] = FIRST_SIGNUP + random.nextLong(LAST_ACTIVITY - FIRST_SIGNUP);
+                projectCounts[i] = projectCount(random);
+
+                users.column(id)
+                        .column(firstName + " " + lastName)
+                        .column(handles[i] + "@" + pick(random, DOMAINS))
+                        .column(passwordHash)
+                        .column(random.nextInt(100) >= 2)
+                        .column(timestamp(signups[i]))
+                        .column(timestamp(between(random, signups[i], LAST_ACTIVITY)))
+                        .endRow();
+            }
+            users.finish();
+            loadedUsers.addAndGet(users.rows());
+        }
+
+        try (CopyStream projects = new CopyStream(copyManager, "tb_user_external_project",
+                "id, user_id, name, description, url, created_at, updated_at")) {
+            for (int i = 0; i < size; i++) {
+                for (int p = 1; p <= projectCounts[i]; p++) {
+                    String slug = pick(random, ADJECTIVES) + "-" + pick(random, NOUNS);
+                    long createdAt = between(random, signups[i], LAST_ACTIVITY);
+                    projects.column("project-" + p)
+                            .column(firstId + i)
+                            .column(slug.replace('-', ' ') + " " + p)
+                            .column(random.nextInt(10) < 3 ? null : "Synthetic " + slug + " project for load testing")
+                            .column(random.nextBoolean() ? "https://git.example.test/" + handles[i] + "/" + slug : null)
+                            .column(timestamp(createdAt))
+                            .column(timestamp(between(random, createdAt, LAST_ACTIVITY)))
+                            .endRow();
+                }
+            }
+            projects.finish();
+            loadedProjects.addAndGet(projects.rows());
+        }
+    }
+
+    /**
+     * Bounded Pareto with x_min = 1, minus one so zero projects is possible: with the default skew of 1.5 the
+     * median user has no project, the mean is about 1.5 and roughly one in a thousand has a hundred or more.
+     */
+    private int projectCount(SplittableRandom random) {
+        double pareto = Math.pow(1.0 - random.nextDouble(), -1.0 / options.skew());
+        return (int) Math.min(options.maxProjects(), Math.floor(pareto) - 1);
+    }
+
+    private void prepareTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            boolean populated;
+            try (ResultSet rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM tb_user)")) {
+                rs.next();
+                populated = rs.getBoolean(1);
+            }
+            if (populated && !options.truncate()) {
+                throw new IllegalStateException(
+                        "tb_user already has rows; pass --truncate=true (-Pdatagen.truncate=true) to replace them");
+            }
+            if (populated) {
+                System.out.println("Truncating tb_user_external_project and tb_user");
+                statement.execute("TRUNCATE tb_user_external_project, tb_user");
+            }
+        }
+    }
+
+    /**
+     * Drops the indexes that do not back a constraint and returns their definitions, in the form
+     * {@code pg_indexes} reports them, to be replayed after the load. Primary keys stay, so the foreign key
+     * from projects to users can still be checked while loading.
+     */
+    private static Map<String, String> dropSecondaryIndexes(Connection connection) throws SQLException {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        try (PreparedStatement query = connection.prepareStatement("""
+                SELECT indexname, indexdef FROM pg_indexes
+                WHERE schemaname = current_schema()
+                  AND tablename IN ('tb_user', 'tb_user_external_project')
+                  AND indexname NOT IN (SELECT conname FROM pg_constraint)
+                """);
+             ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                indexes.put(rs.getString(1), rs.getString(2));
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String index : indexes.keySet()) {
+                statement.execute("DROP INDEX \"" + index + "\"");
+            }
+        }
+        System.out.println("Deferred indexes " + indexes.keySet());
+        return indexes;
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(options.url(), options.username(), options.password());
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static long between(SplittableRandom random, long from, long to) {
+        return from >= to ? from : random.nextLong(from, to);
+    }
+
+    private static String timestamp(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).format(TIMESTAMP);
+    }
+
+    private static String elapsedSince(long startedNanos) {
+        return Duration.ofNanos(System.nanoTime() - startedNanos).truncatedTo(ChronoUnit.SECONDS)
+                .toString().substring(2).toLowerCase(Locale.ROOT);
+    }
+}
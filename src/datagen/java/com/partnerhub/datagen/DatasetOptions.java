@@ -0,0 +1,76 @@
+package com.partnerhub.datagen;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings of {@link DatasetGenerator}, passed as {@code --name=value} arguments
+ * (or {@code -Pdatagen.name=value} through {@code ./gradlew generateDataset}).
+ *
+ * @param url           JDBC URL of the target database, migrated to the current schema
+ * @param username      database user
+ * @param password      database password
+ * @param users         number of users to generate
+ * @param maxProjects   upper bound of projects per user
+ * @param skew          Pareto shape of the projects per user; lower values mean a longer tail
+ * @param seed          seed of the generator; the same seed and sizes always produce the same rows
+ * @param workers       parallel COPY connections
+ * @param truncate      whether existing users and projects may be deleted first
+ * @param deferIndexes  whether secondary indexes are dropped during the load and rebuilt afterwards
+ * @param userPassword  plain-text password shared by every generated user
+ */
+record DatasetOptions(
+        String url,
+        String username,
+        String password,
+        long users,
+        int maxProjects,
+        double skew,
+        long seed,
+        int workers,
+        boolean truncate,
+        boolean deferIndexes,
+        String userPassword
+) {
+
+    private static final List<String> KNOWN = List.of(
+            "url", "username", "password", "users", "max-projects", "skew", "seed", "workers", "truncate",
+            "defer-indexes", "user-password");
+
+    static DatasetOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        DatasetOptions options = new DatasetOptions(
+                values.getOrDefault("url", "jdbc:postgresql://localhost:5432/partnerhub_dev"),
+                values.getOrDefault("username", "dev_user"),
+                values.getOrDefault("password", "dev_pass"),
+                Long.parseLong(values.getOrDefault("users", "1000000")),
+                Integer.parseInt(values.getOrDefault("max-projects", "1000")),
+                Double.parseDouble(values.getOrDefault("skew", "1.5")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("workers",
+                        String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Boolean.parseBoolean(values.getOrDefault("truncate", "false")),
+                Boolean.parseBoolean(values.getOrDefault("defer-indexes", "true")),
+                values.getOrDefault("user-password", "password123")
+        );
+
+        values.keySet().removeAll(KNOWN);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet() + ", expected " + KNOWN);
+        }
+        if (options.users < 1 || options.maxProjects < 0 || options.skew <= 0 || options.workers < 1) {
+            throw new IllegalArgumentException(
+                    "users and workers must be positive, max-projects non-negative and skew greater than 0");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,93 @@
+package com.partnerhub.benchmark;
+
+import com.partnerhub.dto.ErrorResponseDTO;
+import com.partnerhub.dto.UserRequestDTO;
+import com.partnerhub.exception.GlobalExceptionHandler;
+import com.partnerhub.exception.NotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of error responses by {@link GlobalExceptionHandler}. The {@code throwAndHandle*} variants
+ * include creating the exception and filling in its stack trace, which is what a 404 or 409 really costs.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=ExceptionHandler
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private MockHttpServletRequest request;
+    private NotFoundException notFound;
+    private MethodArgumentNotValidException invalidArgument;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        request = new MockHttpServletRequest("POST", "/api/users");
+        notFound = new NotFoundException("User with ID 42 not found");
+
+        UserRequestDTO dto = new UserRequestDTO();
+        dto.setEmail("not-an-email");
+        dto.setPassword("short");
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(dto, "userRequestDTO");
+        bindingResult.rejectValue("email", "Email", "Email must be valid");
+        bindingResult.rejectValue("password", "Size", "Password must be between 8 and 64 characters");
+        MethodParameter parameter = new MethodParameter(
+                ExceptionHandlerBenchmark.class.getDeclaredMethod("createUser", UserRequestDTO.class), 0);
+        invalidArgument = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDTO> handleNotFound() {
+        return handler.handleNotFoundException(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDTO> throwAndHandleNotFound() {
+        try {
+            throw new NotFoundException("User with ID 42 not found");
+        } catch (NotFoundException ex) {
+            return handler.handleNotFoundException(ex, request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDTO> throwAndHandleConflict() {
+        try {
+            throw new IllegalArgumentException("Email has already been registered");
+        } catch (IllegalArgumentException ex) {
+            return handler.handleIllegalArgumentException(ex, request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDTO> handleValidationErrors() {
+        return handler.handleValidationExceptions(invalidArgument, request);
+    }
+
+    @SuppressWarnings("unused")
+    private void createUser(UserRequestDTO request) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.partnerhub.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.partnerhub.dto.ErrorResponseDTO;
+import com.partnerhub.dto.UserResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialisation of response bodies, with an {@link ObjectMapper} configured the way Spring Boot
+ * configures the one used by the message converters (Java time module, ISO dates).
+ * <p>
+ * {@code size} covers a single user, a default page and a maximum page of {@code GET /api/users}.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=Json
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    @Param({"1", "20", "100"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter usersWriter;
+    private List<UserResponseDTO> users;
+    private ErrorResponseDTO validationError;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        usersWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, UserResponseDTO.class));
+
+        Instant now = Instant.parse("2025-06-16T20:10:00Z");
+        users = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            users.add(new UserResponseDTO(id, "user" + id + "@partnerhub.com", "User " + id, now, now));
+        }
+
+        validationError = new ErrorResponseDTO();
+        validationError.setTimestamp("2025-06-16T20:10:00Z");
+        validationError.setStatus(400);
+        validationError.setError("Bad Request");
+        validationError.setPath("/api/users");
+        validationError.setErrors(List.of(
+                fieldError("email", "Email must be valid", "not-an-email"),
+                fieldError("password", "Password must be between 8 and 64 characters", "short")));
+    }
+
+    @Benchmark
+    public byte[] serializeUsers() throws JsonProcessingException {
+        return usersWriter.writeValueAsBytes(users);
+    }
+
+    /**
+     * Same payload through {@code writeValueAsBytes(Object)}, which resolves the serializer from the runtime
+     * type on every call, as the message converter does.
+     */
+    @Benchmark
+    public byte[] serializeUsersUntyped() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(validationError);
+    }
+
+    private static ErrorResponseDTO.FieldError fieldError(String field, String message, String rejectedValue) {
+        ErrorResponseDTO.FieldError error = new ErrorResponseDTO.FieldError();
+        error.setField(field);
+        error.setMessage(message);
+        error.setRejectedValue(rejectedValue);
+        return error;
+    }
+}
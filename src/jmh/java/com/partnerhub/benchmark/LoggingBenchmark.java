@@ -0,0 +1,160 @@
+package com.partnerhub.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.util.Duration;
+import com.partnerhub.diagnostics.RequestQueryStats;
+import com.partnerhub.logging.DroppedEventsListener;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.appender.listener.AppenderListener;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logging overhead seen by a request thread: the log lines of a create-user request, with the same messages,
+ * logger names and query-count MDC entries as {@code UserController} and {@code UserService} produce, encoded
+ * with {@link LogstashEncoder} and written to a file either synchronously ({@code sync}, the previous setup) or
+ * through the bounded async ring buffer used in {@code logback-spring.xml} ({@code async}).
+ * <p>
+ * Under sustained overload the async pipeline drops instead of blocking. The dropped and attempted events are
+ * reported as the {@code droppedEvents} and {@code loggedEvents} secondary results, so they land in the JSON
+ * results next to the timings and must be compared before reading the async numbers as a pure win.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=Logging
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    @Param({"sync", "async"})
+    String pipeline;
+
+    private static final ThreadLocal<Events> EVENTS = new ThreadLocal<>();
+
+    private final AtomicLong ids = new AtomicLong();
+    private LoggerContext context;
+    private Logger controllerLog;
+    private Logger serviceLog;
+    private Path directory;
+
+    /**
+     * Log events of one benchmark thread, summed over threads by JMH. The async appender drops on the calling
+     * thread, so each drop is attributed to the thread whose request lost the event.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Events {
+
+        public long loggedEvents;
+        public long droppedEvents;
+
+        @Setup(org.openjdk.jmh.annotations.Level.Iteration)
+        public void reset() {
+            loggedEvents = 0;
+            droppedEvents = 0;
+            EVENTS.set(this);
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logging-benchmark");
+        context = new LoggerContext();
+
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(directory.resolve("app.log").toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if ("async".equals(pipeline)) {
+            LoggingEventAsyncDisruptorAppender async = new LoggingEventAsyncDisruptorAppender();
+            async.setContext(context);
+            async.setRingBufferSize(8192);
+            async.setAppendTimeout(Duration.buildByMilliseconds(0));
+            async.addListener(new DroppedEventsListener());
+            async.addListener(new AppenderListener<>() {
+                @Override
+                public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+                    Events events = EVENTS.get();
+                    if (events != null) {
+                        events.droppedEvents++;
+                    }
+                }
+            });
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        controllerLog = context.getLogger("com.partnerhub.controller.UserController");
+        serviceLog = context.getLogger("com.partnerhub.service.UserService");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    /**
+     * POST /api/users: the query counters appear in the MDC once the INSERT has been flushed, as
+     * {@code QueryCountListener} would record it, and are cleared at the end of the request.
+     */
+    @Benchmark
+    public void createUserRequest(Events events) {
+        long id = ids.incrementAndGet();
+        String email = "user" + id + "@partnerhub.com";
+        try {
+            controllerLog.info("Creating user with email: {}", email);
+            serviceLog.info("Attempting to create user with email: {}", email);
+            MDC.put(RequestQueryStats.STATEMENTS_MDC_KEY, "1");
+            MDC.put(RequestQueryStats.FLUSHES_MDC_KEY, "1");
+            serviceLog.info("User created with ID: {}", id);
+            controllerLog.info("User created with ID: {}", id);
+            events.loggedEvents += 4;
+        } finally {
+            MDC.remove(RequestQueryStats.STATEMENTS_MDC_KEY);
+            MDC.remove(RequestQueryStats.FLUSHES_MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.partnerhub.benchmark;
+
+import com.partnerhub.domain.ExternalProject;
+import com.partnerhub.domain.User;
+import com.partnerhub.dto.ExternalProjectRequestDTO;
+import com.partnerhub.dto.ExternalProjectResponseDTO;
+import com.partnerhub.dto.UserRequestDTO;
+import com.partnerhub.dto.UserResponseDTO;
+import com.partnerhub.mapper.ExternalProjectMapper;
+import com.partnerhub.mapper.UserMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct conversions done on every user and project request, including the bulk project mapping.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=Mapper
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+    private final ExternalProjectMapper projectMapper = Mappers.getMapper(ExternalProjectMapper.class);
+
+    private UserRequestDTO userRequest;
+    private User user;
+    private ExternalProject project;
+    private List<ExternalProjectRequestDTO> projectRequests;
+
+    @Setup
+    public void setUp() {
+        userRequest = new UserRequestDTO();
+        userRequest.setEmail("partner@partnerhub.com");
+        userRequest.setPassword("correct-horse");
+        userRequest.setName("Partner");
+
+        user = new User();
+        user.setId(42L);
+        user.setEmail("partner@partnerhub.com");
+        user.setName("Partner");
+        user.setCreatedAt(Instant.parse("2025-06-01T10:00:00Z"));
+        user.setUpdatedAt(Instant.parse("2025-06-02T10:00:00Z"));
+
+        project = new ExternalProject();
+        project.setId("proj-001");
+        project.setName("Project 1");
+        project.setUser(user);
+        project.setCreatedAt(Instant.parse("2025-06-01T10:00:00Z"));
+        project.setUpdatedAt(Instant.parse("2025-06-02T10:00:00Z"));
+
+        projectRequests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ExternalProjectRequestDTO request = new ExternalProjectRequestDTO();
+            request.setId("proj-" + i);
+            request.setName("Project " + i);
+            projectRequests.add(request);
+        }
+    }
+
+    @Benchmark
+    public User userToEntity() {
+        return userMapper.toEntity(userRequest);
+    }
+
+    @Benchmark
+    public UserResponseDTO userToResponse() {
+        return userMapper.toResponse(user);
+    }
+
+    @Benchmark
+    public ExternalProjectResponseDTO projectToResponse() {
+        return projectMapper.toResponse(project);
+    }
+
+    @Benchmark
+    public List<ExternalProject> projectsToEntities() {
+        return projectMapper.toEntities(projectRequests);
+    }
+}
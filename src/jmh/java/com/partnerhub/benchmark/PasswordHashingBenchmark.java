@@ -0,0 +1,81 @@
+package com.partnerhub.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one password verification per algorithm and cost factor, to choose
+ * {@code security.password.bcrypt-strength} / {@code pbkdf2-iterations} for the target hardware.
+ * <p>
+ * Pick the highest cost whose verification time still fits the login latency budget (a common target is
+ * 50-250 ms per hash); the hashing pool runs one hash per CPU, so throughput is roughly
+ * {@code cores / verification time}.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=PasswordHashing
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @State(Scope.Benchmark)
+    public static class BCryptState {
+
+        @Param({"10", "11", "12", "13"})
+        int strength;
+
+        PasswordEncoder encoder;
+        String hash;
+
+        @Setup
+        public void setUp() {
+            encoder = new BCryptPasswordEncoder(strength);
+            hash = encoder.encode(PASSWORD);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Pbkdf2State {
+
+        @Param({"210000", "310000", "600000"})
+        int iterations;
+
+        PasswordEncoder encoder;
+        String hash;
+
+        @Setup
+        public void setUp() {
+            encoder = new Pbkdf2PasswordEncoder("", 16, iterations, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+            hash = encoder.encode(PASSWORD);
+        }
+    }
+
+    @Benchmark
+    public boolean bcryptMatches(BCryptState state) {
+        return state.encoder.matches(PASSWORD, state.hash);
+    }
+
+    @Benchmark
+    public boolean pbkdf2Matches(Pbkdf2State state) {
+        return state.encoder.matches(PASSWORD, state.hash);
+    }
+}
@@ -0,0 +1,86 @@
+package com.partnerhub.benchmark;
+
+import com.partnerhub.domain.ExternalProject;
+import com.partnerhub.domain.User;
+import com.partnerhub.dto.UserResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistence path against a real PostgreSQL seeded to {@code users} users, with a skewed number of projects
+ * per user (see {@link SeededDatabase}). Each operation is measured as throughput and as a latency distribution
+ * (p50/p99/p99.9 in the sample-time results). Full table scans live in {@link RepositoryScanBenchmark}, which
+ * only runs at the small size.
+ * <p>
+ * JMH forks a JVM per benchmark and parameter set; enable Testcontainers reuse
+ * ({@code testcontainers.reuse.enable=true} in {@code ~/.testcontainers.properties}) to seed the container once
+ * instead of on every fork.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=Repository -PjmhResults=repository-1.2.0
+ * </pre>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RepositoryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Database extends SeededDatabase {
+
+        @Param({"10000", "1000000"})
+        int users;
+
+        @Param({"50"})
+        int maxProjectsPerUser;
+
+        @Override
+        int users() {
+            return users;
+        }
+
+        @Override
+        int maxProjectsPerUser() {
+            return maxProjectsPerUser;
+        }
+    }
+
+    @Benchmark
+    public Optional<User> findByEmail(Database db) {
+        return db.userRepository.findByEmail("user" + db.randomUserId() + "@bench.local");
+    }
+
+    @Benchmark
+    public List<UserResponseDTO> findResponsePage(Database db) {
+        return db.userRepository.findResponsePageAfter(db.randomUserId(), Limit.of(20));
+    }
+
+    @Benchmark
+    public List<ExternalProject> findByUserId(Database db) {
+        return db.projectRepository.findByUserId(db.randomUserId());
+    }
+
+    @Benchmark
+    public ExternalProject addProject(Database db) {
+        ExternalProject project = new ExternalProject();
+        project.setId(db.nextProjectId());
+        project.setName("Benchmark project");
+        return db.projectService.addProject(db.randomUserId(), project);
+    }
+}
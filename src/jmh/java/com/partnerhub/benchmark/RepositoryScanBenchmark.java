@@ -0,0 +1,62 @@
+package com.partnerhub.benchmark;
+
+import com.partnerhub.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full table scans, kept out of {@link RepositoryBenchmark}: materialising every managed {@link User} of the
+ * 1M-user dataset on eight threads at once would exhaust the heap and skew the other operations measured in the
+ * same fork. Runs single-threaded at the 10k size only, which is enough to show why listings are paginated.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=RepositoryScan
+ * </pre>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RepositoryScanBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Database extends SeededDatabase {
+
+        @Param({"10000"})
+        int users;
+
+        @Param({"50"})
+        int maxProjectsPerUser;
+
+        @Override
+        int users() {
+            return users;
+        }
+
+        @Override
+        int maxProjectsPerUser() {
+            return maxProjectsPerUser;
+        }
+    }
+
+    /**
+     * Loads every user: grows linearly with the table.
+     */
+    @Benchmark
+    public List<User> findAll(Database db) {
+        return db.userRepository.findAll();
+    }
+}
@@ -0,0 +1,118 @@
+package com.partnerhub.benchmark;
+
+import com.partnerhub.PartnerHubApplication;
+import com.partnerhub.repository.ExternalProjectRepository;
+import com.partnerhub.repository.UserRepository;
+import com.partnerhub.service.ExternalProjectService;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PostgreSQL seeded to {@link #users()} users with a skewed number of projects per user (most have a few, some
+ * have up to {@link #maxProjectsPerUser()}), with the application context on top. Benchmarks declare a
+ * {@code @State} subclass whose {@code @Param} fields pick the sizes.
+ * <p>
+ * The database is a Testcontainers PostgreSQL unless {@code -Dbenchmark.jdbc-url} (with
+ * {@code benchmark.username} / {@code benchmark.password}) points to a local one, which is <strong>wiped</strong>
+ * and reseeded whenever its size does not match.
+ */
+public abstract class SeededDatabase {
+
+    private PostgreSQLContainer<?> container;
+    private ConfigurableApplicationContext context;
+    private final AtomicLong projectIds = new AtomicLong();
+
+    UserRepository userRepository;
+    ExternalProjectRepository projectRepository;
+    ExternalProjectService projectService;
+
+    @Setup
+    public void setUp() {
+        String url = System.getProperty("benchmark.jdbc-url");
+        String username = System.getProperty("benchmark.username", "postgres");
+        String password = System.getProperty("benchmark.password", "postgres");
+        if (url == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("benchmark")
+                    .withReuse(true);
+            container.start();
+            url = container.getJdbcUrl();
+            username = container.getUsername();
+            password = container.getPassword();
+        }
+
+        context = new SpringApplicationBuilder(PartnerHubApplication.class).run(
+                "--spring.profiles.active=benchmark",
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password);
+        userRepository = context.getBean(UserRepository.class);
+        projectRepository = context.getBean(ExternalProjectRepository.class);
+        projectService = context.getBean(ExternalProjectService.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        // A reusable container stays up for the next fork; otherwise Ryuk removes it when the JVM exits
+        if (container != null && !TestcontainersConfiguration.getInstance().environmentSupportsReuse()) {
+            container.stop();
+        }
+    }
+
+    /**
+     * Seeds in SQL with generate_series. Project counts follow {@code max * u^4} for a pseudo-random
+     * {@code u} derived from the user ID, so the skew is identical on every run.
+     */
+    private void seed(JdbcTemplate jdbc) {
+        jdbc.update("DELETE FROM tb_user_external_project WHERE id LIKE 'bench-%'");
+        Long seededUsers = jdbc.queryForObject("SELECT count(*) FROM tb_user", Long.class);
+        Long seededProjects = jdbc.queryForObject("SELECT count(*) FROM tb_user_external_project", Long.class);
+        Long expectedProjects = jdbc.queryForObject(
+                "SELECT coalesce(sum(" + projectCount("u") + "), 0) FROM generate_series(1, ?) u",
+                Long.class, maxProjectsPerUser(), users());
+        if (seededUsers == users() && seededProjects.equals(expectedProjects)) {
+            return;
+        }
+
+        jdbc.execute("TRUNCATE tb_user_external_project, tb_user");
+        jdbc.update("""
+                INSERT INTO tb_user (id, name, email, password, enabled, created_at, updated_at)
+                SELECT g, 'User ' || g, 'user' || g || '@bench.local', '{noop}benchmark', true, now(), now()
+                FROM generate_series(1, ?) g
+                """, users());
+        jdbc.update("""
+                INSERT INTO tb_user_external_project (id, user_id, name, created_at, updated_at)
+                SELECT 'proj-' || p, u, 'Project ' || p, now() - p * interval '1 minute', now()
+                FROM generate_series(1, ?) u
+                CROSS JOIN LATERAL generate_series(1, %s) p
+                """.formatted(projectCount("u")), users(), maxProjectsPerUser());
+        jdbc.queryForObject("SELECT setval('tb_user_id_seq', ?)", Long.class, (long) users());
+        jdbc.execute("ANALYZE");
+    }
+
+    private static String projectCount(String userId) {
+        return "floor(?::int * power(((" + userId + "::bigint * 2654435761) % 1000003) / 1000003.0, 4))::int";
+    }
+
+    long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, users() + 1L);
+    }
+
+    String nextProjectId() {
+        return "bench-" + projectIds.incrementAndGet();
+    }
+
+    abstract int users();
+
+    abstract int maxProjectsPerUser();
+}
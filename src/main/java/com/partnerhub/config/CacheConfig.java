@@ -0,0 +1,21 @@
+package com.partnerhub.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables the in-process Caffeine caches configured under {@code spring.cache.*}. They hold read-only DTOs and
+ * timestamps, never managed entities, so cached values cannot leak lazy associations or the password hash.
+ * <p>
+ * The caching advice is ordered ahead of the transactional advice, so a cached read never opens a
+ * transaction and evictions only happen once the surrounding write transaction has committed. Only the
+ * method latency timing wraps it, so cache hits are part of the measured service latency.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE + 1)
+public class CacheConfig {
+
+    public static final String USERS = "users";
+    public static final String USER_VERSIONS = "userVersions";
+}
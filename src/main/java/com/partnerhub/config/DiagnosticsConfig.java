@@ -0,0 +1,122 @@
+package com.partnerhub.config;
+
+import com.partnerhub.diagnostics.MethodLatencyAspect;
+import com.partnerhub.diagnostics.QueryCountFilter;
+import com.partnerhub.diagnostics.QueryCountListener;
+import com.partnerhub.diagnostics.QueryCountProperties;
+import com.partnerhub.diagnostics.VirtualThreadMonitor;
+import com.partnerhub.diagnostics.VirtualThreadsEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Virtual-thread diagnostics: an in-process JFR stream recording pinned and rejected virtual threads,
+ * exposed through {@code /actuator/virtualthreads}, {@code /thread/diagnostics} and Micrometer.
+ * <p>
+ * Also times service and repository methods with latency histograms and SLO buckets, and counts the SQL
+ * statements, entity loads and flushes of each request.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryCountProperties.class)
+public class DiagnosticsConfig {
+
+    @Value("${diagnostics.virtual-threads.enabled:true}")
+    private boolean enabled;
+
+    @Value("${diagnostics.virtual-threads.pinned-threshold:20ms}")
+    private Duration pinnedThreshold;
+
+    @Value("${diagnostics.virtual-threads.max-locations:100}")
+    private int maxLocations;
+
+    @Value("${diagnostics.virtual-threads.stack-depth:32}")
+    private int stackDepth;
+
+    @Value("${diagnostics.method-latency.slo:10ms,50ms,100ms,250ms,500ms,1s}")
+    private List<Duration> latencyObjectives;
+
+    /**
+     * Upper bound of the percentile histogram buckets; slower calls fall into the last bucket.
+     */
+    @Value("${diagnostics.method-latency.maximum-expected:10s}")
+    private Duration latencyMaximumExpected;
+
+    @Bean
+    public VirtualThreadMonitor virtualThreadMonitor(MeterRegistry meterRegistry) {
+        VirtualThreadMonitor monitor = new VirtualThreadMonitor(pinnedThreshold, maxLocations, stackDepth, meterRegistry);
+        if (enabled) {
+            monitor.start();
+        }
+        return monitor;
+    }
+
+    @Bean
+    public VirtualThreadsEndpoint virtualThreadsEndpoint(VirtualThreadMonitor monitor) {
+        return new VirtualThreadsEndpoint(monitor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "diagnostics.method-latency", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MethodLatencyAspect methodLatencyAspect(MeterRegistry meterRegistry) {
+        return new MethodLatencyAspect(meterRegistry, latencyObjectives, latencyMaximumExpected);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "diagnostics.query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public QueryCountListener queryCountListener() {
+        return new QueryCountListener();
+    }
+
+    /**
+     * Hands the listener bean itself to Hibernate as its statement inspector, so disabling query counting
+     * leaves Hibernate without one.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "diagnostics.query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer queryCountStatementInspector(QueryCountListener listener) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, listener);
+    }
+
+    /**
+     * The event listeners can only be appended once the session factory is built, which in turn needs the
+     * inspector above, hence a separate step after all singletons exist.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "diagnostics.query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public SmartInitializingSingleton queryCountEventListeners(
+            QueryCountListener listener,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        return () -> listener.registerWith(entityManagerFactory);
+    }
+
+    /**
+     * Runs right after the debug-log flag and before Spring Security, so user lookups during authentication
+     * are counted too.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "diagnostics.query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            QueryCountProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<QueryCountFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountFilter(properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
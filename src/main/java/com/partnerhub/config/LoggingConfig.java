@@ -0,0 +1,51 @@
+package com.partnerhub.config;
+
+import com.partnerhub.logging.DebugLogFilter;
+import com.partnerhub.logging.LoggingMetrics;
+import com.partnerhub.logging.SamplingPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Logging pipeline metrics and sampling of hot-path log lines.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Value("${logging.sampling.mode:per-second}")
+    private String samplingMode;
+
+    @Value("${logging.sampling.rate:10}")
+    private int samplingRate;
+
+    @Value("${logging.debug-header.enabled:false}")
+    private boolean debugHeaderEnabled;
+
+    /**
+     * Shared by every {@link com.partnerhub.logging.SampledLogger}; each samples its call sites on its own.
+     */
+    @Bean
+    public SamplingPolicy samplingPolicy() {
+        return new SamplingPolicy(
+                SamplingPolicy.Mode.valueOf(samplingMode.trim().toUpperCase().replace('-', '_')),
+                samplingRate);
+    }
+
+    @Bean
+    public LoggingMetrics loggingMetrics() {
+        return new LoggingMetrics();
+    }
+
+    /**
+     * Registered first, so the flag also covers logs written by the security and resilience filters.
+     */
+    @Bean
+    public FilterRegistrationBean<DebugLogFilter> debugLogFilter() {
+        FilterRegistrationBean<DebugLogFilter> registration = new FilterRegistrationBean<>(new DebugLogFilter(debugHeaderEnabled));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,89 @@
+package com.partnerhub.config;
+
+import com.partnerhub.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing: the algorithm and cost used for new hashes, and the bounded platform-thread pool the
+ * hashing runs on.
+ * <p>
+ * Stored hashes keep their {@code {id}} prefix, so hashes produced with another algorithm or a lower cost still
+ * verify; {@link PasswordEncoder#upgradeEncoding} reports them and the authentication provider re-hashes them
+ * on the next successful login. The pool is exported as {@code executor_*{name="password-hashing"}}
+ * (queued tasks, active threads, execution and wait times).
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    @Value("${security.password.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.pbkdf2-iterations:310000}")
+    private int pbkdf2Iterations;
+
+    @Value("${security.password.hashing-threads:0}")
+    private int hashingThreads;
+
+    @Value("${security.password.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor() {
+        int threads = poolSize();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Bean
+    public PasswordHasher passwordEncoder(ThreadPoolExecutor passwordHashingExecutor, MeterRegistry meterRegistry) {
+        ExecutorService measured = ExecutorServiceMetrics.monitor(meterRegistry, passwordHashingExecutor, "password-hashing");
+        return new PasswordHasher(hashingAlgorithms(), measured, poolSize());
+    }
+
+    private PasswordEncoder hashingAlgorithms() {
+        if (!BCRYPT.equals(algorithm) && !PBKDF2.equals(algorithm)) {
+            throw new IllegalStateException(String.format(
+                    "Unsupported security.password.algorithm '%s', expected '%s' or '%s'", algorithm, BCRYPT, PBKDF2));
+        }
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, new BCryptPasswordEncoder(bcryptStrength),
+                PBKDF2, new Pbkdf2PasswordEncoder(
+                        "", 16, pbkdf2Iterations, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256),
+                // Only to verify (and then upgrade) passwords configured in plain text, e.g. spring.security.user.
+                "noop", NoOpPasswordEncoder.getInstance()
+        );
+        return new DelegatingPasswordEncoder(algorithm, encoders);
+    }
+
+    private int poolSize() {
+        return hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,114 @@
+package com.partnerhub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.partnerhub.resilience.AdaptiveConcurrencyLimiter;
+import com.partnerhub.resilience.ConcurrencyLimitFilter;
+import com.partnerhub.resilience.ConcurrencyLimitProperties;
+import com.partnerhub.resilience.DatabaseBulkhead;
+import com.partnerhub.resilience.RateLimitFilter;
+import com.partnerhub.resilience.RateLimitProperties;
+import com.partnerhub.resilience.RejectedExecutionFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Servlet filters and the database bulkhead that protect the service from overload.
+ * <p>
+ * The filters are registered right after the Spring Security filter chain, so they only see authenticated
+ * requests and can tell clients apart by principal. Rate limiting runs before the concurrency limit, so a
+ * single client over its budget never occupies one of the shared slots. Rate limit rules marked
+ * {@code pre-authentication} are enforced by a second filter ahead of the security chain instead, and a worker
+ * pool saturated inside the security chain (password hashing during HTTP Basic) is shed with {@code 503} by a
+ * filter wrapped directly around it.
+ */
+@Configuration
+@EnableConfigurationProperties({RateLimitProperties.class, ConcurrencyLimitProperties.class})
+public class ResilienceConfig {
+
+    /**
+     * Defaults to one permit per pooled connection.
+     */
+    @Value("${db.bulkhead.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int bulkheadMaxConcurrent;
+
+    @Value("${db.bulkhead.max-wait:500ms}")
+    private Duration bulkheadMaxWait;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimitProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(properties, false, objectMapper, meterRegistry));
+        registration.setName("rateLimitFilter");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 10);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    /**
+     * Enforces the {@code pre-authentication} rules before Spring Security, so failed logins are throttled too.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> preAuthenticationRateLimitFilter(
+            RateLimitProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(properties, true, objectMapper, meterRegistry));
+        registration.setName("preAuthenticationRateLimitFilter");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    /**
+     * Wraps the Spring Security chain, so a rejection raised while verifying credentials becomes a {@code 503}.
+     */
+    @Bean
+    public FilterRegistrationBean<RejectedExecutionFilter> rejectedExecutionFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<RejectedExecutionFilter> registration =
+                new FilterRegistrationBean<>(new RejectedExecutionFilter(objectMapper, meterRegistry));
+        registration.setName("rejectedExecutionFilter");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 5);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, System::nanoTime);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter, properties, objectMapper, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 20);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "db.bulkhead", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public DatabaseBulkhead databaseBulkhead(MeterRegistry meterRegistry) {
+        return new DatabaseBulkhead(bulkheadMaxConcurrent, bulkheadMaxWait, meterRegistry);
+    }
+}
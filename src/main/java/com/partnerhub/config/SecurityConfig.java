@@ -1,26 +1,113 @@
 package com.partnerhub.config;
 
+import com.partnerhub.security.CachingAuthenticationProvider;
+import com.partnerhub.security.RejectionPropagatingAuthenticationProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
 public class SecurityConfig {
+
+    /**
+     * The token endpoint only accepts HTTP Basic, so a bearer token can never be used to mint a new one.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain tokenFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider) throws Exception {
         http
+                .securityMatcher("/api/auth/token")
                 .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(authz -> authz.anyRequest().authenticated())
+                .authenticationProvider(authenticationProvider)
+                .with(new HttpBasicConfigurer<>(), withDefaults());
+        return http.build();
+    }
+
+    /**
+     * Every other endpoint accepts a bearer token (a signature check) and, for existing clients, HTTP Basic.
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            AuthenticationProvider authenticationProvider,
+            JwtAuthenticationConverter jwtAuthenticationConverter
+    ) throws Exception {
+        http
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .logout((logout) -> logout.permitAll())
+                .authenticationProvider(authenticationProvider)
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter)))
                 .with(new HttpBasicConfigurer<>(), withDefaults());
         return http.build();
     }
+
+    /**
+     * The {@code spring.security.user.*} account, declared here because Boot's default user details service
+     * backs off as soon as an {@link AuthenticationProvider} bean exists. Plain-text passwords are stored
+     * with the {@code {noop}} prefix, as Boot does.
+     */
+    @Bean
+    public InMemoryUserDetailsManager userDetailsService(SecurityProperties properties) {
+        SecurityProperties.User user = properties.getUser();
+        String password = user.getPassword().startsWith("{") ? user.getPassword() : "{noop}" + user.getPassword();
+        return new InMemoryUserDetailsManager(User.withUsername(user.getName())
+                .password(password)
+                .roles(user.getRoles().toArray(String[]::new))
+                .build());
+    }
+
+    /**
+     * Verifies credentials against the user details service, remembering successful verifications for
+     * {@code security.auth-cache.ttl} so HTTP Basic does not pay for a password hash on every request.
+     * Hashes made with an outdated algorithm or cost are re-encoded after a successful verification. A saturated
+     * password hashing pool is reported as a rejection rather than as bad credentials.
+     */
+    @Bean
+    public AuthenticationProvider authenticationProvider(
+            UserDetailsService userDetailsService,
+            UserDetailsPasswordService userDetailsPasswordService,
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.auth-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${security.auth-cache.ttl:60s}") Duration cacheTtl,
+            @Value("${security.auth-cache.max-size:10000}") long cacheMaxSize
+    ) {
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(userDetailsService);
+        dao.setPasswordEncoder(passwordEncoder);
+        dao.setUserDetailsPasswordService(userDetailsPasswordService);
+        AuthenticationProvider verifier = new RejectionPropagatingAuthenticationProvider(dao);
+        if (!cacheEnabled) {
+            return verifier;
+        }
+        return new CachingAuthenticationProvider(verifier, userDetailsService, cacheTtl, cacheMaxSize, meterRegistry);
+    }
 }
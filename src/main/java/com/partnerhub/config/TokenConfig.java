@@ -0,0 +1,105 @@
+package com.partnerhub.config;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.security.converter.RsaKeyConverters;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * Signing and verification of the bearer tokens issued by {@code POST /api/auth/token}.
+ * <p>
+ * Tokens are RS256 JWTs signed with a local RSA key; there is no external identity provider. The decoder keeps
+ * the public key in memory, so validating a request is a signature check with no I/O.
+ */
+@Configuration
+public class TokenConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenConfig.class);
+
+    public static final String ROLES_CLAIM = "roles";
+
+    /**
+     * Loads the key pair from {@code security.token.public-key-location} (X.509 PEM) and
+     * {@code security.token.private-key-location} (PKCS#8 PEM). Without them a key pair is generated at startup,
+     * which is fine for a single instance but invalidates every token on restart and is not shared across
+     * instances.
+     */
+    @Bean
+    public KeyPair tokenSigningKeyPair(
+            ResourceLoader resourceLoader,
+            @Value("${security.token.public-key-location:}") String publicKeyLocation,
+            @Value("${security.token.private-key-location:}") String privateKeyLocation
+    ) throws IOException {
+        if (publicKeyLocation.isBlank() || privateKeyLocation.isBlank()) {
+            log.warn("No token signing key configured, generating an ephemeral RSA key pair");
+            return generateRsaKeyPair();
+        }
+        try (InputStream publicKey = resourceLoader.getResource(publicKeyLocation).getInputStream();
+             InputStream privateKey = resourceLoader.getResource(privateKeyLocation).getInputStream()) {
+            return new KeyPair(RsaKeyConverters.x509().convert(publicKey), RsaKeyConverters.pkcs8().convert(privateKey));
+        }
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(KeyPair tokenSigningKeyPair) {
+        RSAKey key = new RSAKey.Builder((RSAPublicKey) tokenSigningKeyPair.getPublic())
+                .privateKey((RSAPrivateKey) tokenSigningKeyPair.getPrivate())
+                .build();
+        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+            KeyPair tokenSigningKeyPair,
+            @Value("${security.token.issuer:partner-hub}") String issuer
+    ) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) tokenSigningKeyPair.getPublic()).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        return decoder;
+    }
+
+    /**
+     * Restores the authorities carried in the {@value #ROLES_CLAIM} claim as-is (e.g. {@code ROLE_ADMIN}), so a
+     * bearer token grants exactly what the Basic login that issued it had.
+     */
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter authorities = new JwtGrantedAuthoritiesConverter();
+        authorities.setAuthoritiesClaimName(ROLES_CLAIM);
+        authorities.setAuthorityPrefix("");
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authorities);
+        return converter;
+    }
+
+    private static KeyPair generateRsaKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("RSA is not available", ex);
+        }
+    }
+}
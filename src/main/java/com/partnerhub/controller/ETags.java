@@ -0,0 +1,66 @@
+package com.partnerhub.controller;
+
+import com.partnerhub.dto.ExternalProjectResponseDTO;
+import com.partnerhub.dto.ListVersionDTO;
+import com.partnerhub.pagination.CursorPage;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Builds strong entity tags from version columns and evaluates {@code If-None-Match} against them,
+ * so controllers can answer {@code 304 Not Modified} before loading or serialising anything.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String ofUser(Long userId, Instant updatedAt) {
+        return of("user:" + userId + ":" + updatedAt);
+    }
+
+    static String ofProjectList(Long userId, ListVersionDTO version) {
+        return of("projects:" + userId + ":" + version.getCount() + ":" + version.getLastUpdatedAt());
+    }
+
+    /**
+     * Derived from the rows of the page itself, so it costs no extra query. The query parameters and the next
+     * cursor are part of the tag because every page of the listing has its own representation and links.
+     */
+    static String ofProjectPage(Long userId, CursorPage<ExternalProjectResponseDTO> page, String sort, String after,
+                                Integer limit) {
+        StringBuilder version = new StringBuilder("projects:").append(userId)
+                .append(':').append(sort).append(':').append(after).append(':').append(limit)
+                .append(':').append(page.getNextCursor());
+        for (ExternalProjectResponseDTO project : page.getItems()) {
+            version.append(':').append(project.getId()).append('@').append(project.getUpdatedAt());
+        }
+        return of(version.toString());
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match uses the weak comparison function (RFC 9110, 13.1.2).
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String of(String version) {
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
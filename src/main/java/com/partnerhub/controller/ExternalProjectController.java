@@ -1,19 +1,28 @@
 package com.partnerhub.controller;
 
+import com.partnerhub.dto.ExternalProjectBulkRequestDTO;
+import com.partnerhub.dto.ExternalProjectBulkResponseDTO;
 import com.partnerhub.dto.ExternalProjectRequestDTO;
 import com.partnerhub.dto.ExternalProjectResponseDTO;
 import com.partnerhub.dto.ExternalProjectUpdateRequestDTO;
+import com.partnerhub.dto.ListVersionDTO;
+import com.partnerhub.exception.BadRequestException;
 import com.partnerhub.mapper.ExternalProjectMapper;
+import com.partnerhub.pagination.CursorPage;
+import com.partnerhub.pagination.PageLimits;
+import com.partnerhub.pagination.PageLinks;
+import com.partnerhub.pagination.ProjectSort;
 import com.partnerhub.service.ExternalProjectService;
 import com.partnerhub.domain.ExternalProject;
 
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Endpoints for managing user's external projects.
@@ -25,6 +34,15 @@ public class ExternalProjectController {
     private final ExternalProjectService externalProjectService;
     private final ExternalProjectMapper externalProjectMapper;
 
+    @Value("${pagination.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${pagination.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${bulk.max-items:1000}")
+    private int maxBulkItems;
+
     public ExternalProjectController(
             ExternalProjectService externalProjectService,
             ExternalProjectMapper externalProjectMapper
@@ -44,16 +62,75 @@ public class ExternalProjectController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
     }
 
+    /**
+     * Creates or renames up to {@code bulk.max-items} projects of the user in one statement and reports how many
+     * rows were inserted, updated or already up to date.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ExternalProjectBulkResponseDTO> upsertProjects(
+            @PathVariable Long userId,
+            @Valid @RequestBody ExternalProjectBulkRequestDTO requestDTO
+    ) {
+        if (requestDTO.getProjects().size() > maxBulkItems) {
+            throw new BadRequestException(
+                    String.format("At most %d projects can be upserted per request", maxBulkItems));
+        }
+        List<ExternalProject> projects = externalProjectMapper.toEntities(requestDTO.getProjects());
+        return ResponseEntity.ok(externalProjectService.upsertProjects(userId, projects));
+    }
+
+    /**
+     * Lists a user's projects. Without {@code sort}/{@code after}/{@code limit} every project is returned
+     * (legacy behaviour); with any of them the listing is keyset-paginated by {@code createdAt} (default)
+     * or {@code name}, with the project ID as tie-breaker.
+     * <p>
+     * Responses carry a strong ETag. For the full listing it is derived from the project count and latest
+     * {@code updatedAt}, both computed in SQL, so an unchanged listing answers {@code 304 Not Modified} without
+     * being loaded. Pages derive it from the rows they return instead, so a page never costs a pass over the
+     * whole listing; an unchanged page still answers {@code 304} without a body.
+     */
     @GetMapping
     public ResponseEntity<List<ExternalProjectResponseDTO>> getProjectsByUser(
-            @PathVariable Long userId
+            @PathVariable Long userId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        List<ExternalProject> projects = externalProjectService.getProjectsByUserId(userId);
-        List<ExternalProjectResponseDTO> result = projects.stream()
-                .map(externalProjectMapper::toResponse)
-                .collect(Collectors.toList());
+        boolean paginated = sort != null || after != null || limit != null;
+        ProjectSort projectSort = ProjectSort.fromParameter(sort);
+        int pageLimit = PageLimits.resolve(limit, defaultLimit, maxLimit);
+
+        if (!paginated) {
+            ListVersionDTO version = externalProjectService.getProjectListVersion(userId);
+            String etag = ETags.ofProjectList(userId, version);
+            if (ETags.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .body(externalProjectService.getProjectsByUserId(userId));
+        }
 
-        return ResponseEntity.ok(result);
+        CursorPage<ExternalProjectResponseDTO> page =
+                externalProjectService.getProjectPage(userId, projectSort, after, pageLimit);
+        String etag = ETags.ofProjectPage(userId, page, sort, after, limit);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .headers(PageLinks.nextPageHeaders(page, pageLimit))
+                .body(page.getItems());
+    }
+
+    @GetMapping("/{projectId}")
+    public ResponseEntity<ExternalProjectResponseDTO> getProject(
+            @PathVariable Long userId,
+            @PathVariable String projectId
+    ) {
+        return ResponseEntity.ok(externalProjectService.getProject(userId, projectId));
     }
 
     @PutMapping("/{projectId}")
@@ -62,8 +139,6 @@ public class ExternalProjectController {
             @PathVariable String projectId,
             @Valid @RequestBody ExternalProjectUpdateRequestDTO dto
     ) {
-        ExternalProject updated = externalProjectService.updateProject(userId, projectId, dto);
-        ExternalProjectResponseDTO response = externalProjectMapper.toResponse(updated);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(externalProjectService.updateProject(userId, projectId, dto));
     }
 }
\ No newline at end of file
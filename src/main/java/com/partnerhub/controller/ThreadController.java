@@ -1,5 +1,7 @@
 package com.partnerhub.controller;
 
+import com.partnerhub.diagnostics.VirtualThreadMonitor;
+import com.partnerhub.dto.VirtualThreadReportDTO;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -11,8 +13,22 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/thread")
 public class ThreadController {
 
+    private final VirtualThreadMonitor virtualThreadMonitor;
+
+    public ThreadController(VirtualThreadMonitor virtualThreadMonitor) {
+        this.virtualThreadMonitor = virtualThreadMonitor;
+    }
+
     @GetMapping("/name")
     public String getThreadName() {
         return Thread.currentThread().toString();
     }
+
+    /**
+     * Carrier pool utilisation and virtual-thread pinning per code location, as recorded by JFR.
+     */
+    @GetMapping("/diagnostics")
+    public VirtualThreadReportDTO getDiagnostics() {
+        return virtualThreadMonitor.report();
+    }
 }
@@ -1,19 +1,33 @@
 package com.partnerhub.controller;
 
 import com.partnerhub.dto.*;
+import com.partnerhub.exception.BadRequestException;
 import com.partnerhub.exception.NotFoundException;
+import com.partnerhub.logging.SampledLogger;
+import com.partnerhub.logging.SamplingPolicy;
 import com.partnerhub.mapper.UserMapper;
+import com.partnerhub.pagination.CursorPage;
+import com.partnerhub.pagination.Cursors;
+import com.partnerhub.pagination.PageLimits;
+import com.partnerhub.pagination.PageLinks;
 import com.partnerhub.service.UserService;
 import com.partnerhub.domain.User;
 
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +41,23 @@ public class UserController {
 
     private final UserService userService;
     private final UserMapper userMapper;
+    private final Validator validator;
+    private final SampledLogger sampledLog;
 
-    public UserController(UserService userService, UserMapper userMapper) {
+    @Value("${pagination.default-limit:20}")
+    private int defaultLimit;
+
+    @Value("${pagination.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${bulk.max-items:1000}")
+    private int maxBulkItems;
+
+    public UserController(UserService userService, UserMapper userMapper, Validator validator, SamplingPolicy samplingPolicy) {
         this.userService = userService;
         this.userMapper = userMapper;
+        this.validator = validator;
+        this.sampledLog = SampledLogger.of(log, samplingPolicy);
     }
 
     @PostMapping
@@ -45,10 +72,78 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDTO);
     }
 
+    /**
+     * Creates up to {@code bulk.max-items} users at once. Each item is validated individually; invalid items
+     * and already registered emails are reported per item while the rest are inserted in a single batch.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkUserResponseDTO> createUsers(
+            @Valid @RequestBody BulkUserRequestDTO requestDTO
+    ) {
+        List<UserRequestDTO> items = requestDTO.getUsers();
+        if (items.size() > maxBulkItems) {
+            throw new BadRequestException(
+                    String.format("At most %d users can be created per request", maxBulkItems));
+        }
+        log.info("Creating {} users in bulk", items.size());
+
+        BulkUserResultDTO[] results = new BulkUserResultDTO[items.size()];
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        List<User> users = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            UserRequestDTO item = items.get(i);
+            String violations = item == null ? "User must not be null" : describeViolations(item);
+            if (violations != null) {
+                results[i] = BulkUserResultDTO.invalid(item == null ? null : item.getEmail(), violations);
+            } else {
+                validIndexes.add(i);
+                users.add(userMapper.toEntity(item));
+            }
+        }
+
+        List<BulkUserResultDTO> created = userService.createUsers(users);
+        for (int i = 0; i < created.size(); i++) {
+            results[validIndexes.get(i)] = created.get(i);
+        }
+        for (int i = 0; i < results.length; i++) {
+            results[i].setIndex(i);
+        }
+
+        BulkUserResponseDTO response = new BulkUserResponseDTO(List.of(results));
+        log.info("Bulk creation finished: {} created, {} duplicates, {} invalid",
+                response.getCreated(), response.getDuplicates(), response.getInvalid());
+        return ResponseEntity.ok(response);
+    }
+
+    private String describeViolations(UserRequestDTO item) {
+        Set<ConstraintViolation<UserRequestDTO>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Returns the user with a strong ETag derived from {@code updatedAt}. When the client already holds the
+     * current version only the timestamp is read and {@code 304 Not Modified} is returned without a body.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponseDTO> getUserById(@PathVariable Long id) {
-        User user = userService.findById(id);
-        return ResponseEntity.ok(userMapper.toResponse(user));
+    public ResponseEntity<UserResponseDTO> getUserById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Optional<String> etag = userService.findVersion(id).map(updatedAt -> ETags.ofUser(id, updatedAt));
+        if (etag.isPresent() && ETags.matches(ifNoneMatch, etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag.get()).build();
+        }
+
+        UserResponseDTO user = userService.findResponseById(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        etag.ifPresent(response::eTag);
+        return response.body(user);
     }
 
     @DeleteMapping("/{id}")
@@ -59,17 +154,34 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Lists users. Without {@code after}/{@code limit} the whole table is returned (legacy behaviour);
+     * with either parameter the listing is keyset-paginated by ID and the next page is advertised
+     * through the {@code Link} and {@code X-Next-Cursor} headers.
+     */
     @GetMapping
-    public ResponseEntity<List<UserResponseDTO>> getAllUsers() {
-        log.info("Fetching all users");
-        List<UserResponseDTO> users = userService.findAll()
-                .stream()
-                .map(userMapper::toResponse)
-                .collect(Collectors.toList());
-        log.info("Retrieved {} users", users.size());
+    public ResponseEntity<List<UserResponseDTO>> getAllUsers(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit
+    ) {
+        if (after != null || limit != null) {
+            return getUserPage(after, limit);
+        }
+        sampledLog.info("Fetching all users");
+        List<UserResponseDTO> users = userService.findAllResponses();
+        sampledLog.info("Retrieved {} users", users.size());
         return ResponseEntity.ok(users);
     }
 
+    private ResponseEntity<List<UserResponseDTO>> getUserPage(String after, Integer limit) {
+        int pageLimit = PageLimits.resolve(limit, defaultLimit, maxLimit);
+        CursorPage<UserResponseDTO> page = userService.findPage(Cursors.decodeId(after), pageLimit);
+        sampledLog.info("Retrieved page of {} users", page.getItems().size());
+        return ResponseEntity.ok()
+                .headers(PageLinks.nextPageHeaders(page, pageLimit))
+                .body(page.getItems());
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserResponseDTO> updateUser(
             @PathVariable Long id,
@@ -0,0 +1,94 @@
+package com.partnerhub.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every service and repository method as {@code method_latency_seconds}, tagged with the {@code layer}
+ * ({@code service} or {@code repository}), the {@code class} (the repository interface for Spring Data
+ * proxies), the {@code method}, the {@code outcome} ({@code success} or {@code error}) and the
+ * {@code exception} class.
+ * <p>
+ * Timers publish a percentile histogram, so p95/p99 can be aggregated across instances with
+ * {@code histogram_quantile}, plus buckets at the configured service level objectives, so the share of calls
+ * within each objective is exact rather than interpolated. A service call includes the repository calls it
+ * makes; subtracting those shows the time spent in the service itself, mostly in Hibernate flushes and
+ * mapping.
+ * <p>
+ * The advice is the outermost one on these beans: the timing includes cache hits, the database bulkhead wait
+ * and the transaction commit, as seen by the caller.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MethodLatencyAspect {
+
+    public static final String METRIC = "method.latency";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration[] serviceLevelObjectives;
+    private final Duration maximumExpectedValue;
+    private final Map<MeterKey, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public MethodLatencyAspect(MeterRegistry meterRegistry, List<Duration> serviceLevelObjectives,
+                               Duration maximumExpectedValue) {
+        this.meterRegistry = meterRegistry;
+        this.serviceLevelObjectives = serviceLevelObjectives.toArray(Duration[]::new);
+        this.maximumExpectedValue = maximumExpectedValue;
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || execution(public * com.partnerhub.service..*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimer(joinPoint).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timer(joinPoint, "error", ex.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer successTimer(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MeterKey key = new MeterKey(joinPoint.getTarget().getClass(), method);
+        return successTimers.computeIfAbsent(key, k -> timer(joinPoint, "success", "none"));
+    }
+
+    /**
+     * Failures are rare enough to look their timer up in the registry each time instead of caching it per
+     * exception class.
+     */
+    private Timer timer(ProceedingJoinPoint joinPoint, String outcome, String exception) {
+        Object target = joinPoint.getTarget();
+        return Timer.builder(METRIC)
+                .description("Latency of service and repository methods")
+                .tags("layer", TargetNames.repositoryInterface(target) != null ? "repository" : "service",
+                        "class", TargetNames.of(target),
+                        "method", joinPoint.getSignature().getName(),
+                        "outcome", outcome,
+                        "exception", exception)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(serviceLevelObjectives)
+                .maximumExpectedValue(maximumExpectedValue)
+                .register(meterRegistry);
+    }
+
+    private record MeterKey(Class<?> targetClass, Method method) {
+    }
+}
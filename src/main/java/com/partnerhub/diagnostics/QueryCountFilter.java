@@ -0,0 +1,132 @@
+package com.partnerhub.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the database work of each request (see {@link RequestQueryStats}) and records it per endpoint as
+ * {@code request_sql_statements} (with a percentile histogram), {@code request_entities_loaded} and
+ * {@code request_flushes}, tagged with the HTTP {@code method} and the {@code uri} template like
+ * {@code http_server_requests}.
+ * <p>
+ * A request preparing more statements than its configured threshold is logged as a warning and counted in
+ * {@code request_sql_threshold_exceeded_total}; a statement count growing with the size of the response is the
+ * signature of an N+1 query.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final int defaultThreshold;
+    private final List<ThresholdRoute> routes;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(QueryCountProperties properties, MeterRegistry meterRegistry) {
+        this.defaultThreshold = properties.getWarnThreshold();
+        this.meterRegistry = meterRegistry;
+        this.routes = properties.getRules().stream()
+                .map(rule -> new ThresholdRoute(
+                        PathPatternParser.defaultInstance.parse(rule.getPattern()),
+                        rule.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet()),
+                        rule.getWarnThreshold()))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            try {
+                record(request, stats);
+            } finally {
+                RequestQueryStats.end();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        Meters endpoint = metersFor(request.getMethod(), uri);
+        endpoint.statements().record(stats.getStatements());
+        endpoint.entitiesLoaded().record(stats.getEntitiesLoaded());
+        endpoint.flushes().record(stats.getFlushes());
+
+        int threshold = thresholdFor(request);
+        if (threshold > 0 && stats.getStatements() > threshold) {
+            endpoint.thresholdExceeded().increment();
+            log.warn("{} {} prepared {} SQL statements (threshold {}), loaded {} entities and flushed {} times",
+                    request.getMethod(), uri, stats.getStatements(), threshold,
+                    stats.getEntitiesLoaded(), stats.getFlushes());
+        }
+    }
+
+    private int thresholdFor(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (ThresholdRoute route : routes) {
+            if ((route.methods().isEmpty() || route.methods().contains(request.getMethod()))
+                    && route.pattern().matches(path)) {
+                return route.threshold();
+            }
+        }
+        return defaultThreshold;
+    }
+
+    private Meters metersFor(String method, String uri) {
+        return meters.computeIfAbsent(method + " " + uri, key -> new Meters(
+                DistributionSummary.builder("request.sql.statements")
+                        .description("SQL statements prepared by Hibernate per request")
+                        .tags("method", method, "uri", uri)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(1000.0)
+                        .register(meterRegistry),
+                DistributionSummary.builder("request.entities.loaded")
+                        .description("Entities loaded by Hibernate per request")
+                        .tags("method", method, "uri", uri)
+                        .register(meterRegistry),
+                DistributionSummary.builder("request.flushes")
+                        .description("Hibernate session flushes per request")
+                        .tags("method", method, "uri", uri)
+                        .register(meterRegistry),
+                Counter.builder("request.sql.threshold.exceeded")
+                        .description("Requests that prepared more SQL statements than their warning threshold")
+                        .tags("method", method, "uri", uri)
+                        .register(meterRegistry)));
+    }
+
+    private record ThresholdRoute(PathPattern pattern, Set<String> methods, int threshold) {
+    }
+
+    private record Meters(
+            DistributionSummary statements,
+            DistributionSummary entitiesLoaded,
+            DistributionSummary flushes,
+            Counter thresholdExceeded
+    ) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.partnerhub.diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hooks feeding {@link RequestQueryStats}: the statement inspector sees every SQL string Hibernate
+ * prepares (a JDBC batch counts once), the post-load listener every entity hydrated from a result set and the
+ * flush listener explicit and commit-time flushes. SQL sent through {@code JdbcTemplate} bypasses Hibernate and
+ * is not counted.
+ * <p>
+ * A single instance serves as both: it is passed to Hibernate as the statement inspector through a
+ * {@code HibernatePropertiesCustomizer}, and its event listeners are appended to the built session factory with
+ * {@link #registerWith}.
+ */
+public class QueryCountListener implements StatementInspector, PostLoadEventListener, FlushEventListener {
+
+    public void registerWith(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, this);
+        registry.appendListeners(EventType.FLUSH, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.statementPrepared();
+        }
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.entityLoaded();
+        }
+    }
+
+    @Override
+    public void onFlush(FlushEvent event) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.flushed();
+        }
+    }
+}
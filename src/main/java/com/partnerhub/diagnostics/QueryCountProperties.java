@@ -0,0 +1,90 @@
+package com.partnerhub.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-request SQL statement counting under {@code diagnostics.query-count.*}. A request preparing more statements
+ * than its threshold is logged as a warning; the first rule whose pattern and method match sets the threshold,
+ * otherwise {@code warn-threshold} applies.
+ */
+@ConfigurationProperties(prefix = "diagnostics.query-count")
+public class QueryCountProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Statements per request above which a warning is logged; 0 disables the warning.
+     */
+    private int warnThreshold = 10;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getWarnThreshold() {
+        return warnThreshold;
+    }
+
+    public void setWarnThreshold(int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+
+        /**
+         * Route template in Spring MVC syntax, e.g. {@code /api/users/bulk} or {@code /api/users/{userId}/projects}.
+         */
+        private String pattern;
+
+        /**
+         * HTTP methods the rule applies to; empty means every method.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Statements above which a request on this route is logged; 0 disables the warning.
+         */
+        private int warnThreshold;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public int getWarnThreshold() {
+            return warnThreshold;
+        }
+
+        public void setWarnThreshold(int warnThreshold) {
+            this.warnThreshold = warnThreshold;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.partnerhub.diagnostics;
+
+import org.slf4j.MDC;
+
+/**
+ * Database work done by the current request: SQL statements prepared by Hibernate, entities loaded and session
+ * flushes. Counters are bound to the request thread by {@link QueryCountFilter} and incremented by
+ * {@link QueryCountListener}; work outside a request is not counted.
+ * <p>
+ * The running totals are mirrored in the MDC ({@value #STATEMENTS_MDC_KEY}, {@value #ENTITIES_MDC_KEY},
+ * {@value #FLUSHES_MDC_KEY}), so every log line shows how much database work the request had done so far.
+ */
+public final class RequestQueryStats {
+
+    public static final String STATEMENTS_MDC_KEY = "sqlStatements";
+    public static final String ENTITIES_MDC_KEY = "entitiesLoaded";
+    public static final String FLUSHES_MDC_KEY = "flushes";
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entitiesLoaded;
+    private int flushes;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+        MDC.remove(STATEMENTS_MDC_KEY);
+        MDC.remove(ENTITIES_MDC_KEY);
+        MDC.remove(FLUSHES_MDC_KEY);
+    }
+
+    /**
+     * Stats of the request running on this thread, or {@code null} outside a request.
+     */
+    static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        MDC.put(STATEMENTS_MDC_KEY, Integer.toString(++statements));
+    }
+
+    void entityLoaded() {
+        MDC.put(ENTITIES_MDC_KEY, Integer.toString(++entitiesLoaded));
+    }
+
+    void flushed() {
+        MDC.put(FLUSHES_MDC_KEY, Integer.toString(++flushes));
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public int getFlushes() {
+        return flushes;
+    }
+}
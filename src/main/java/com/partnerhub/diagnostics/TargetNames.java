@@ -0,0 +1,34 @@
+package com.partnerhub.diagnostics;
+
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Readable names for advised beans, used as metric tags.
+ */
+public final class TargetNames {
+
+    private TargetNames() {
+    }
+
+    /**
+     * The application's repository interface behind a Spring Data proxy, or the class of any other bean.
+     */
+    public static String of(Object target) {
+        Class<?> repository = repositoryInterface(target);
+        return repository != null ? repository.getSimpleName() : ClassUtils.getUserClass(target).getSimpleName();
+    }
+
+    /**
+     * The application's repository interface implemented by {@code target}, or {@code null} if it is not a
+     * Spring Data repository.
+     */
+    public static Class<?> repositoryInterface(Object target) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(target.getClass())) {
+            if (Repository.class.isAssignableFrom(type) && !type.getName().startsWith("org.springframework.")) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
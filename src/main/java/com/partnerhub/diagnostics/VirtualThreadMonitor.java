@@ -0,0 +1,233 @@
+package com.partnerhub.diagnostics;
+
+import com.partnerhub.dto.VirtualThreadReportDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams the JFR events {@code jdk.VirtualThreadPinned} and {@code jdk.VirtualThreadSubmitFailed} in process
+ * and aggregates them per code location, so pinning (typically a virtual thread blocking inside a
+ * {@code synchronized} block of a JDBC driver or Hibernate) can be traced back to its source under load.
+ * <p>
+ * A pin is attributed to the first stack frame outside the JDK. Pinned time is exported as
+ * {@code jvm_threads_virtual_pinned_seconds{location}}, scheduler rejections as
+ * {@code jvm_threads_virtual_submit_failed_total}. Carrier utilisation is only computed when a
+ * {@linkplain #report() report} is requested, never on a metrics scrape. The number of distinct locations is
+ * capped; further locations are reported as {@value #OTHER_LOCATION}.
+ */
+public class VirtualThreadMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadMonitor.class);
+
+    static final String OTHER_LOCATION = "other";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final String CARRIER_THREAD_CLASS = "jdk.internal.misc.CarrierThread";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final Duration pinnedThreshold;
+    private final int maxLocations;
+    private final int stackDepth;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, LocationStats> pinned = new ConcurrentHashMap<>();
+    private final Counter submitFailed;
+    private volatile List<String> lastSubmitFailedStackTrace = List.of();
+    private volatile RecordingStream recording;
+
+    public VirtualThreadMonitor(Duration pinnedThreshold, int maxLocations, int stackDepth, MeterRegistry meterRegistry) {
+        this.pinnedThreshold = pinnedThreshold;
+        this.maxLocations = maxLocations;
+        this.stackDepth = stackDepth;
+        this.meterRegistry = meterRegistry;
+        this.submitFailed = Counter.builder("jvm.threads.virtual.submit.failed")
+                .description("Virtual threads the scheduler failed to start or unpark")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the in-process JFR stream on a background thread; a JVM without JFR only logs a warning.
+     */
+    public synchronized void start() {
+        if (recording != null) {
+            return;
+        }
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(pinnedThreshold).withStackTrace();
+            stream.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+            stream.onEvent(PINNED_EVENT, event -> recordPinned(frames(event), event.getDuration()));
+            stream.onEvent(SUBMIT_FAILED_EVENT, event -> recordSubmitFailed(frames(event)));
+            stream.startAsync();
+            recording = stream;
+        } catch (RuntimeException e) {
+            log.warn("Virtual thread monitoring disabled, JFR is not available: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    void recordPinned(List<String> stackTrace, Duration duration) {
+        String location = locationOf(stackTrace);
+        LocationStats stats = pinned.get(location);
+        if (stats == null) {
+            if (pinned.size() >= maxLocations) {
+                location = OTHER_LOCATION;
+            }
+            stats = pinned.computeIfAbsent(location, this::newLocationStats);
+        }
+        stats.record(stackTrace, duration);
+    }
+
+    void recordSubmitFailed(List<String> stackTrace) {
+        submitFailed.increment();
+        lastSubmitFailedStackTrace = stackTrace;
+        log.warn("Virtual thread submit failed at {}", locationOf(stackTrace));
+    }
+
+    /**
+     * Clears the aggregated pinning locations, e.g. before a load test.
+     */
+    public void reset() {
+        pinned.values().forEach(LocationStats::reset);
+    }
+
+    public VirtualThreadReportDTO report() {
+        List<VirtualThreadReportDTO.PinnedLocation> locations = pinned.entrySet().stream()
+                .filter(entry -> entry.getValue().count.sum() > 0)
+                .map(entry -> entry.getValue().toLocation(entry.getKey()))
+                .sorted(Comparator.comparingDouble(VirtualThreadReportDTO.PinnedLocation::getTotalMillis).reversed())
+                .toList();
+        return new VirtualThreadReportDTO(
+                recording != null,
+                pinnedThreshold.toMillis(),
+                carrierPool(),
+                locations,
+                (long) submitFailed.count(),
+                lastSubmitFailedStackTrace);
+    }
+
+    /**
+     * Counts the carriers of the default scheduler from the live platform threads and their states, without
+     * taking stack traces (no safepoint). An idle carrier is parked waiting for work, while a carrier running a
+     * virtual thread is runnable or blocked; a carrier parked by a pinned virtual thread therefore counts as idle,
+     * which the pinning report covers. Java 21 offers no scheduler MXBean, so this stays an on-demand snapshot.
+     */
+    static VirtualThreadReportDTO.CarrierPool carrierPool() {
+        int parallelism = Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+        int poolSize = 0;
+        int busy = 0;
+        for (Thread thread : platformThreads()) {
+            if (!(thread instanceof ForkJoinWorkerThread) || !CARRIER_THREAD_CLASS.equals(thread.getClass().getName())) {
+                continue;
+            }
+            poolSize++;
+            Thread.State state = thread.getState();
+            if (state == Thread.State.RUNNABLE || state == Thread.State.BLOCKED) {
+                busy++;
+            }
+        }
+        return new VirtualThreadReportDTO.CarrierPool(parallelism, poolSize, busy);
+    }
+
+    private static Thread[] platformThreads() {
+        ThreadGroup root = Thread.currentThread().getThreadGroup();
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        Thread[] threads = new Thread[root.activeCount() + 16];
+        int count;
+        while ((count = root.enumerate(threads, true)) == threads.length) {
+            threads = new Thread[threads.length * 2];
+        }
+        return Arrays.copyOf(threads, count);
+    }
+
+    static String locationOf(List<String> stackTrace) {
+        return stackTrace.stream()
+                .filter(frame -> JDK_PACKAGES.stream().noneMatch(frame::startsWith))
+                .findFirst()
+                .orElse(stackTrace.isEmpty() ? "unknown" : stackTrace.getFirst());
+    }
+
+    private List<String> frames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(stackDepth)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .toList();
+    }
+
+    private LocationStats newLocationStats(String location) {
+        return new LocationStats(Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .tag("location", location)
+                .register(meterRegistry));
+    }
+
+    private static final class LocationStats {
+
+        private final Timer timer;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile List<String> lastStackTrace = List.of();
+
+        private LocationStats(Timer timer) {
+            this.timer = timer;
+        }
+
+        private void record(List<String> stackTrace, Duration duration) {
+            long nanos = duration.toNanos();
+            timer.record(duration);
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastStackTrace = stackTrace;
+        }
+
+        private void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+        }
+
+        private VirtualThreadReportDTO.PinnedLocation toLocation(String location) {
+            return new VirtualThreadReportDTO.PinnedLocation(
+                    location,
+                    count.sum(),
+                    totalNanos.sum() / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                    maxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                    lastStackTrace);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.partnerhub.diagnostics;
+
+import com.partnerhub.dto.VirtualThreadReportDTO;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * {@code /actuator/virtualthreads}: carrier utilisation and pinning per code location ({@code GET}); a
+ * {@code DELETE} clears the aggregated locations.
+ */
+@Endpoint(id = "virtualthreads")
+public class VirtualThreadsEndpoint {
+
+    private final VirtualThreadMonitor monitor;
+
+    public VirtualThreadsEndpoint(VirtualThreadMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public VirtualThreadReportDTO report() {
+        return monitor.report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        monitor.reset();
+    }
+}
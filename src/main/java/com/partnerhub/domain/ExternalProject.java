@@ -9,6 +9,7 @@ import java.time.Instant;
 
 @Entity
 @Table(name = "tb_user_external_project")
+@IdClass(ExternalProjectId.class)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ExternalProject {
@@ -17,6 +18,7 @@ public class ExternalProject {
     @Column(length = 200)
     private String id;
 
+    @Id
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -0,0 +1,46 @@
+package com.partnerhub.domain;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Primary key of {@link ExternalProject}: the partner's project ID scoped by the owning user, matching
+ * {@code PRIMARY KEY (id, user_id)} on {@code tb_user_external_project}.
+ */
+public class ExternalProjectId implements Serializable {
+
+    private String id;
+    private Long user;
+
+    public ExternalProjectId() {
+    }
+
+    public ExternalProjectId(String id, Long user) {
+        this.id = id;
+        this.user = user;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getUser() {
+        return user;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ExternalProjectId other)) {
+            return false;
+        }
+        return Objects.equals(id, other.id) && Objects.equals(user, other.user);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, user);
+    }
+}
@@ -15,11 +15,14 @@ import java.util.Set;
 @AllArgsConstructor
 public class User {
 
+    // Pooled sequence allocation (one nextval per 50 rows) keeps inserts JDBC-batchable, which IDENTITY prevents.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_user_id_seq")
+    @SequenceGenerator(name = "tb_user_id_seq", sequenceName = "tb_user_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 200)
+    // Unique regardless of case through the lower(email) index (V5)
+    @Column(nullable = false, length = 200)
     private String email;
 
     @Column(nullable = false, length = 129)
@@ -0,0 +1,23 @@
+package com.partnerhub.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Payload to create several users in one request. Items are validated one by one so that an invalid
+ * entry is reported in the response instead of rejecting the whole batch.
+ */
+public class BulkUserRequestDTO {
+
+    @NotEmpty(message = "Users must not be empty")
+    private List<UserRequestDTO> users;
+
+    public List<UserRequestDTO> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<UserRequestDTO> users) {
+        this.users = users;
+    }
+}
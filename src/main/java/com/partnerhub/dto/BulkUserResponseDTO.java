@@ -0,0 +1,60 @@
+package com.partnerhub.dto;
+
+import java.util.List;
+
+/**
+ * Response payload of a bulk user creation: totals per status and one result per requested item, in request order.
+ */
+public class BulkUserResponseDTO {
+
+    private long created;
+    private long duplicates;
+    private long invalid;
+    private List<BulkUserResultDTO> results;
+
+    public BulkUserResponseDTO() {
+    }
+
+    public BulkUserResponseDTO(List<BulkUserResultDTO> results) {
+        this.results = results;
+        this.created = count(results, BulkUserResultDTO.Status.CREATED);
+        this.duplicates = count(results, BulkUserResultDTO.Status.DUPLICATE);
+        this.invalid = count(results, BulkUserResultDTO.Status.INVALID);
+    }
+
+    private static long count(List<BulkUserResultDTO> results, BulkUserResultDTO.Status status) {
+        return results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(long duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public long getInvalid() {
+        return invalid;
+    }
+
+    public void setInvalid(long invalid) {
+        this.invalid = invalid;
+    }
+
+    public List<BulkUserResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkUserResultDTO> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,83 @@
+package com.partnerhub.dto;
+
+/**
+ * Outcome of a single item of a bulk user creation, identified by its position in the request.
+ */
+public class BulkUserResultDTO {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    private int index;
+    private Status status;
+    private Long id;
+    private String email;
+    private String message;
+
+    public static BulkUserResultDTO created(Long id, String email) {
+        BulkUserResultDTO result = new BulkUserResultDTO();
+        result.setStatus(Status.CREATED);
+        result.setId(id);
+        result.setEmail(email);
+        return result;
+    }
+
+    public static BulkUserResultDTO duplicate(String email) {
+        BulkUserResultDTO result = new BulkUserResultDTO();
+        result.setStatus(Status.DUPLICATE);
+        result.setEmail(email);
+        result.setMessage("Email has already been registered");
+        return result;
+    }
+
+    public static BulkUserResultDTO invalid(String email, String message) {
+        BulkUserResultDTO result = new BulkUserResultDTO();
+        result.setStatus(Status.INVALID);
+        result.setEmail(email);
+        result.setMessage(message);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.partnerhub.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Payload to create or rename several external projects of a user at once.
+ */
+public class ExternalProjectBulkRequestDTO {
+
+    @NotEmpty(message = "Projects must not be empty")
+    private List<@NotNull(message = "Project must not be null") @Valid ExternalProjectRequestDTO> projects;
+
+    public List<ExternalProjectRequestDTO> getProjects() {
+        return projects;
+    }
+
+    public void setProjects(List<ExternalProjectRequestDTO> projects) {
+        this.projects = projects;
+    }
+}
@@ -0,0 +1,44 @@
+package com.partnerhub.dto;
+
+/**
+ * Response payload of a bulk project upsert: how many projects were inserted, renamed or already up to date.
+ */
+public class ExternalProjectBulkResponseDTO {
+
+    private long inserted;
+    private long updated;
+    private long unchanged;
+
+    public ExternalProjectBulkResponseDTO() {
+    }
+
+    public ExternalProjectBulkResponseDTO(long inserted, long updated, long unchanged) {
+        this.inserted = inserted;
+        this.updated = updated;
+        this.unchanged = unchanged;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(long inserted) {
+        this.inserted = inserted;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    public long getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(long unchanged) {
+        this.unchanged = unchanged;
+    }
+}
@@ -12,6 +12,24 @@ public class ExternalProjectResponseDTO {
     private Instant createdAt;
     private Instant updatedAt;
 
+    public ExternalProjectResponseDTO() {
+    }
+
+    /**
+     * Used by JPQL constructor expressions to read responses straight from the database.
+     */
+    public ExternalProjectResponseDTO(
+            String id,
+            String name,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+        this.id = id;
+        this.name = name;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public String getId() {
         return id;
     }
@@ -0,0 +1,25 @@
+package com.partnerhub.dto;
+
+import java.time.Instant;
+
+/**
+ * Cheap validator of a listing: the number of rows and their latest modification time, both computed in SQL.
+ */
+public class ListVersionDTO {
+
+    private final long count;
+    private final Instant lastUpdatedAt;
+
+    public ListVersionDTO(Long count, Instant lastUpdatedAt) {
+        this.count = count;
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Instant getLastUpdatedAt() {
+        return lastUpdatedAt;
+    }
+}
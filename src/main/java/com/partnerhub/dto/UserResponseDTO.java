@@ -13,6 +13,26 @@ public class UserResponseDTO {
     private Instant createdAt;
     private Instant updatedAt;
 
+    public UserResponseDTO() {
+    }
+
+    /**
+     * Used by JPQL constructor expressions to read responses straight from the database.
+     */
+    public UserResponseDTO(
+            Long id,
+            String email,
+            String name,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,125 @@
+package com.partnerhub.dto;
+
+import java.util.List;
+
+/**
+ * Snapshot of virtual-thread health: carrier pool utilisation, where virtual threads pinned their carrier and
+ * how often the scheduler rejected a virtual thread.
+ */
+public class VirtualThreadReportDTO {
+
+    private final boolean recording;
+    private final long pinnedThresholdMillis;
+    private final CarrierPool carriers;
+    private final List<PinnedLocation> pinned;
+    private final long submitFailedCount;
+    private final List<String> lastSubmitFailedStackTrace;
+
+    public VirtualThreadReportDTO(
+            boolean recording,
+            long pinnedThresholdMillis,
+            CarrierPool carriers,
+            List<PinnedLocation> pinned,
+            long submitFailedCount,
+            List<String> lastSubmitFailedStackTrace
+    ) {
+        this.recording = recording;
+        this.pinnedThresholdMillis = pinnedThresholdMillis;
+        this.carriers = carriers;
+        this.pinned = pinned;
+        this.submitFailedCount = submitFailedCount;
+        this.lastSubmitFailedStackTrace = lastSubmitFailedStackTrace;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public long getPinnedThresholdMillis() {
+        return pinnedThresholdMillis;
+    }
+
+    public CarrierPool getCarriers() {
+        return carriers;
+    }
+
+    public List<PinnedLocation> getPinned() {
+        return pinned;
+    }
+
+    public long getSubmitFailedCount() {
+        return submitFailedCount;
+    }
+
+    public List<String> getLastSubmitFailedStackTrace() {
+        return lastSubmitFailedStackTrace;
+    }
+
+    /**
+     * Carrier threads of the default virtual-thread scheduler; busy carriers have a virtual thread mounted.
+     */
+    public static class CarrierPool {
+
+        private final int parallelism;
+        private final int poolSize;
+        private final int busy;
+
+        public CarrierPool(int parallelism, int poolSize, int busy) {
+            this.parallelism = parallelism;
+            this.poolSize = poolSize;
+            this.busy = busy;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public int getBusy() {
+            return busy;
+        }
+    }
+
+    /**
+     * Pinning aggregated by the first frame outside the JDK, with the stack trace of the latest occurrence.
+     */
+    public static class PinnedLocation {
+
+        private final String location;
+        private final long count;
+        private final double totalMillis;
+        private final double maxMillis;
+        private final List<String> lastStackTrace;
+
+        public PinnedLocation(String location, long count, double totalMillis, double maxMillis, List<String> lastStackTrace) {
+            this.location = location;
+            this.count = count;
+            this.totalMillis = totalMillis;
+            this.maxMillis = maxMillis;
+            this.lastStackTrace = lastStackTrace;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getTotalMillis() {
+            return totalMillis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        public List<String> getLastStackTrace() {
+            return lastStackTrace;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.partnerhub.exception;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+/**
+ * Classifies database constraint violations by SQLSTATE, so writes can rely on keys and foreign keys
+ * instead of checking for existence up front.
+ */
+public final class ConstraintViolations {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private ConstraintViolations() {
+    }
+
+    public static boolean isUniqueViolation(DataIntegrityViolationException ex) {
+        return UNIQUE_VIOLATION.equals(sqlState(ex));
+    }
+
+    public static boolean isForeignKeyViolation(DataIntegrityViolationException ex) {
+        return FOREIGN_KEY_VIOLATION.equals(sqlState(ex));
+    }
+
+    private static String sqlState(DataIntegrityViolationException ex) {
+        return NestedExceptionUtils.getMostSpecificCause(ex) instanceof SQLException sqlException
+                ? sqlException.getSQLState()
+                : null;
+    }
+}
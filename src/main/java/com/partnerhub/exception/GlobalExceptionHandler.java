@@ -3,6 +3,8 @@ package com.partnerhub.exception;
 import com.partnerhub.dto.ErrorResponseDTO;
 import com.partnerhub.dto.ErrorResponseDTO.FieldError;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -60,6 +63,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponseDTO> handleBadRequestException(
+            BadRequestException ex,
+            HttpServletRequest request
+    ) {
+        ErrorResponseDTO response = new ErrorResponseDTO();
+        response.setTimestamp(DateTimeFormatter.ISO_INSTANT.format(Instant.now()));
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        response.setError(HttpStatus.BAD_REQUEST.getReasonPhrase());
+        response.setMessage(ex.getMessage());
+        response.setPath(request.getRequestURI());
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorResponseDTO> handleNotFoundException(
             NotFoundException ex,
@@ -75,6 +93,47 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    /**
+     * Fallback for constraint violations that the services do not translate themselves (for example a
+     * concurrent insert racing a bulk write): the request conflicts with the current state of the data.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponseDTO> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex,
+            HttpServletRequest request
+    ) {
+        ErrorResponseDTO response = new ErrorResponseDTO();
+        response.setTimestamp(DateTimeFormatter.ISO_INSTANT.format(Instant.now()));
+        response.setStatus(HttpStatus.CONFLICT.value());
+        response.setError(HttpStatus.CONFLICT.getReasonPhrase());
+        response.setMessage(ConstraintViolations.isForeignKeyViolation(ex)
+                ? "Referenced resource does not exist"
+                : "Request conflicts with existing data");
+        response.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * A bounded worker pool (e.g. password hashing, the database bulkhead) is saturated: ask the client to retry instead of failing.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRejectedExecutionException(
+            RejectedExecutionException ex,
+            HttpServletRequest request
+    ) {
+        ErrorResponseDTO response = new ErrorResponseDTO();
+        response.setTimestamp(DateTimeFormatter.ISO_INSTANT.format(Instant.now()));
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setError(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase());
+        response.setMessage("Server is busy, please retry later");
+        response.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDTO> handleGeneralException(
             Exception ex,
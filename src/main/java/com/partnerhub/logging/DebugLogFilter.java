@@ -0,0 +1,44 @@
+package com.partnerhub.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Turns off log sampling for a single request sent with {@code X-Debug-Log: true}, so an incident can be
+ * reproduced with full logs without raising the sampling rate for everyone.
+ * <p>
+ * The filter runs before authentication, so any caller could send the header. It is therefore ignored unless
+ * explicitly enabled ({@code logging.debug-header.enabled}), which should only be done temporarily while
+ * investigating an incident.
+ */
+public class DebugLogFilter extends OncePerRequestFilter {
+
+    public static final String DEBUG_LOG_HEADER = "X-Debug-Log";
+
+    private final boolean enabled;
+
+    public DebugLogFilter(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled || !"true".equalsIgnoreCase(request.getHeader(DEBUG_LOG_HEADER))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(SampledLogger.DEBUG_MDC_KEY, "true");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(SampledLogger.DEBUG_MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.partnerhub.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts log events the async appender dropped because its ring buffer was full.
+ * <p>
+ * Logback instantiates listeners before the application context exists, so the count lives in a static
+ * counter that {@link LoggingMetrics} exports once Micrometer is available.
+ */
+public class DroppedEventsListener implements AppenderListener<ILoggingEvent> {
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        DROPPED.increment();
+    }
+
+    public static long droppedCount() {
+        return DROPPED.sum();
+    }
+}
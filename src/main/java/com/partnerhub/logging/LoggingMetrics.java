@@ -0,0 +1,20 @@
+package com.partnerhub.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exports {@code logging_events_dropped_total}: events discarded by the async log appender instead of blocking
+ * a request thread. A non-zero rate means the ring buffer ({@code logging.async.ring-buffer-size}) or the log
+ * volume needs attention.
+ */
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.events.dropped", DroppedEventsListener.class, type -> DroppedEventsListener.droppedCount())
+                .description("Log events dropped because the async appender's ring buffer was full")
+                .register(registry);
+    }
+}
@@ -0,0 +1,114 @@
+package com.partnerhub.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Samples high-volume {@code INFO}/{@code DEBUG} lines on hot read paths.
+ * <p>
+ * Every call site, identified by its message format, is sampled on its own according to the injected
+ * {@link SamplingPolicy} ({@code logging.sampling.*}), so a chatty line never crowds out a rare one. A line that
+ * passes carries the number of lines suppressed at that call site since the previous one as the
+ * {@code suppressed} key-value pair. Sampling is bypassed for requests flagged with {@value #DEBUG_MDC_KEY} in
+ * the MDC (see {@link DebugLogFilter}). Warnings and errors go through the plain {@link Logger} and are never
+ * sampled.
+ */
+public final class SampledLogger {
+
+    public static final String DEBUG_MDC_KEY = "debugLog";
+
+    private final Logger logger;
+    private final SamplingPolicy policy;
+    private final LongSupplier clock;
+    private final Map<String, CallSite> callSites = new ConcurrentHashMap<>();
+
+    SampledLogger(Logger logger, SamplingPolicy policy, LongSupplier clock) {
+        this.logger = logger;
+        this.policy = policy;
+        this.clock = clock;
+    }
+
+    public static SampledLogger of(Logger logger, SamplingPolicy policy) {
+        return new SampledLogger(logger, policy, System::nanoTime);
+    }
+
+    public void info(String format, Object... arguments) {
+        if (logger.isInfoEnabled()) {
+            log(Level.INFO, format, arguments);
+        }
+    }
+
+    public void debug(String format, Object... arguments) {
+        if (logger.isDebugEnabled()) {
+            log(Level.DEBUG, format, arguments);
+        }
+    }
+
+    private void log(Level level, String format, Object[] arguments) {
+        if (policy.mode() == SamplingPolicy.Mode.OFF || "true".equals(MDC.get(DEBUG_MDC_KEY))) {
+            logger.atLevel(level).log(format, arguments);
+            return;
+        }
+        long suppressed = callSites.computeIfAbsent(format, f -> new CallSite()).sample(policy, clock.getAsLong());
+        if (suppressed < 0) {
+            return;
+        }
+        LoggingEventBuilder event = logger.atLevel(level);
+        if (suppressed > 0) {
+            event = event.addKeyValue("suppressed", suppressed);
+        }
+        event.log(format, arguments);
+    }
+
+    private static final class CallSite {
+
+        private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private final AtomicReference<Window> window = new AtomicReference<>(new Window(Long.MIN_VALUE));
+
+        /**
+         * @return {@code -1} when the line is suppressed, otherwise the number of lines suppressed before it
+         */
+        private long sample(SamplingPolicy policy, long nanoTime) {
+            boolean pass = switch (policy.mode()) {
+                case ONE_IN -> calls.getAndIncrement() % policy.rate() == 0;
+                case PER_SECOND -> {
+                    long second = Math.floorDiv(nanoTime, NANOS_PER_SECOND);
+                    Window current = window.get();
+                    if (second > current.second()) {
+                        // Only one thread opens the new window; the others count against whichever window won.
+                        Window next = new Window(second);
+                        current = window.compareAndSet(current, next) ? next : window.get();
+                    }
+                    yield current.calls().incrementAndGet() <= policy.rate();
+                }
+                case OFF -> true;
+            };
+            if (!pass) {
+                suppressed.incrementAndGet();
+                return -1;
+            }
+            return suppressed.getAndSet(0);
+        }
+    }
+
+    /**
+     * One second of a {@link SamplingPolicy.Mode#PER_SECOND} call site, replaced as a whole when the next begins.
+     */
+    private record Window(long second, AtomicLong calls) {
+
+        private Window(long second) {
+            this(second, new AtomicLong());
+        }
+    }
+}
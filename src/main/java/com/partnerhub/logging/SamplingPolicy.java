@@ -0,0 +1,36 @@
+package com.partnerhub.logging;
+
+/**
+ * How many log lines a sampled call site lets through; see {@link SampledLogger}.
+ *
+ * @param mode  {@link Mode#PER_SECOND}: the first {@code rate} lines of every second;
+ *              {@link Mode#ONE_IN}: every {@code rate}-th line, starting with the first;
+ *              {@link Mode#OFF}: every line
+ * @param rate  lines per second, or the sampling interval
+ */
+public record SamplingPolicy(Mode mode, int rate) {
+
+    public enum Mode {
+        PER_SECOND,
+        ONE_IN,
+        OFF
+    }
+
+    public SamplingPolicy {
+        if (mode != Mode.OFF && rate < 1) {
+            throw new IllegalArgumentException("Log sampling rate must be at least 1");
+        }
+    }
+
+    public static SamplingPolicy perSecond(int lines) {
+        return new SamplingPolicy(Mode.PER_SECOND, lines);
+    }
+
+    public static SamplingPolicy oneIn(int interval) {
+        return new SamplingPolicy(Mode.ONE_IN, interval);
+    }
+
+    public static SamplingPolicy off() {
+        return new SamplingPolicy(Mode.OFF, 1);
+    }
+}
@@ -7,6 +7,8 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface ExternalProjectMapper {
     @Mappings({
@@ -16,5 +18,7 @@ public interface ExternalProjectMapper {
     })
     ExternalProject toEntity(ExternalProjectRequestDTO dto);
 
+    List<ExternalProject> toEntities(List<ExternalProjectRequestDTO> dtos);
+
     ExternalProjectResponseDTO toResponse(ExternalProject entity);
 }
@@ -0,0 +1,63 @@
+package com.partnerhub.pagination;
+
+import com.partnerhub.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes opaque pagination cursors.
+ * <p>
+ * A cursor holds the sort key values of the last row of a page. Each value is base64url encoded
+ * on its own and the values are joined with dots, so clients cannot (and should not) rely on its shape.
+ */
+public final class Cursors {
+
+    private static final String SEPARATOR = ".";
+
+    private Cursors() {
+    }
+
+    public static String encode(String... parts) {
+        StringBuilder cursor = new StringBuilder();
+        for (String part : parts) {
+            if (!cursor.isEmpty()) {
+                cursor.append(SEPARATOR);
+            }
+            cursor.append(Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(part.getBytes(StandardCharsets.UTF_8)));
+        }
+        return cursor.toString();
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        String[] encoded = cursor.split("\\" + SEPARATOR, -1);
+        if (encoded.length != expectedParts) {
+            throw invalid();
+        }
+        String[] parts = new String[encoded.length];
+        try {
+            for (int i = 0; i < encoded.length; i++) {
+                parts[i] = new String(Base64.getUrlDecoder().decode(encoded[i]), StandardCharsets.UTF_8);
+            }
+        } catch (IllegalArgumentException ex) {
+            throw invalid();
+        }
+        return parts;
+    }
+
+    public static Long decodeId(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(decode(cursor, 1)[0]);
+        } catch (NumberFormatException ex) {
+            throw invalid();
+        }
+    }
+
+    private static BadRequestException invalid() {
+        return new BadRequestException("Invalid pagination cursor");
+    }
+}
@@ -0,0 +1,25 @@
+package com.partnerhub.pagination;
+
+import com.partnerhub.exception.BadRequestException;
+
+/**
+ * Resolves the page size requested by a client against the configured bounds.
+ */
+public final class PageLimits {
+
+    private PageLimits() {
+    }
+
+    /**
+     * Returns {@code defaultLimit} when no limit was requested and caps larger requests at {@code maxLimit}.
+     */
+    public static int resolve(Integer requested, int defaultLimit, int maxLimit) {
+        if (requested == null) {
+            return Math.min(defaultLimit, maxLimit);
+        }
+        if (requested < 1) {
+            throw new BadRequestException("Limit must be a positive number");
+        }
+        return Math.min(requested, maxLimit);
+    }
+}
@@ -0,0 +1,33 @@
+package com.partnerhub.pagination;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Builds the response headers that point a client to the next page of a listing.
+ */
+public final class PageLinks {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private PageLinks() {
+    }
+
+    /**
+     * Adds a {@code Link: <...>; rel="next"} header and the raw {@value #NEXT_CURSOR_HEADER} header
+     * when the page has a successor; returns empty headers on the last page.
+     */
+    public static HttpHeaders nextPageHeaders(CursorPage<?> page, int limit) {
+        HttpHeaders headers = new HttpHeaders();
+        if (!page.hasNext()) {
+            return headers;
+        }
+        String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", page.getNextCursor())
+                .replaceQueryParam("limit", limit)
+                .toUriString();
+        headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        headers.add(NEXT_CURSOR_HEADER, page.getNextCursor());
+        return headers;
+    }
+}
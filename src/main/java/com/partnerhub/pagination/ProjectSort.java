@@ -0,0 +1,35 @@
+package com.partnerhub.pagination;
+
+import com.partnerhub.exception.BadRequestException;
+
+/**
+ * Orderings supported by the paginated project listing. Each one is backed by a composite
+ * {@code (user_id, <key>, id)} index so a page costs a single index range scan.
+ */
+public enum ProjectSort {
+
+    CREATED_AT("createdAt"),
+    NAME("name");
+
+    private final String parameter;
+
+    ProjectSort(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public static ProjectSort fromParameter(String parameter) {
+        if (parameter == null) {
+            return CREATED_AT;
+        }
+        for (ProjectSort sort : values()) {
+            if (sort.parameter.equals(parameter)) {
+                return sort;
+            }
+        }
+        throw new BadRequestException(String.format("Unsupported sort '%s', expected 'createdAt' or 'name'", parameter));
+    }
+}
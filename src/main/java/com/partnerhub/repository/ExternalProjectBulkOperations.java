@@ -0,0 +1,18 @@
+package com.partnerhub.repository;
+
+import com.partnerhub.domain.ExternalProject;
+import com.partnerhub.dto.ExternalProjectBulkResponseDTO;
+
+import java.util.Collection;
+
+/**
+ * Set-based writes on {@code tb_user_external_project} that bypass the persistence context.
+ */
+public interface ExternalProjectBulkOperations {
+
+    /**
+     * Inserts or renames the given projects of the user in a single {@code INSERT ... ON CONFLICT} statement.
+     * Project IDs must be unique within {@code projects}; rows whose name is unchanged are left untouched.
+     */
+    ExternalProjectBulkResponseDTO upsertAll(Long userId, Collection<ExternalProject> projects);
+}
@@ -0,0 +1,49 @@
+package com.partnerhub.repository;
+
+import com.partnerhub.domain.ExternalProject;
+import com.partnerhub.dto.ExternalProjectBulkResponseDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+
+class ExternalProjectBulkOperationsImpl implements ExternalProjectBulkOperations {
+
+    // The whole batch travels as two array parameters, so the statement is the same whatever the batch size.
+    // xmax is 0 only for freshly inserted row versions, which tells inserts and updates apart; unchanged
+    // names are filtered out by the WHERE clause and return no row at all.
+    private static final String UPSERT_SQL = """
+            INSERT INTO tb_user_external_project (id, user_id, name)
+            SELECT t.id, ?, t.name
+              FROM unnest(?::varchar[], ?::varchar[]) AS t(id, name)
+            ON CONFLICT (id, user_id) DO UPDATE
+               SET name = EXCLUDED.name,
+                   updated_at = now()
+             WHERE tb_user_external_project.name IS DISTINCT FROM EXCLUDED.name
+            RETURNING (xmax = 0) AS inserted""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ExternalProjectBulkOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public ExternalProjectBulkResponseDTO upsertAll(Long userId, Collection<ExternalProject> projects) {
+        String[] ids = projects.stream().map(ExternalProject::getId).toArray(String[]::new);
+        String[] names = projects.stream().map(ExternalProject::getName).toArray(String[]::new);
+
+        List<Boolean> inserted = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+            statement.setLong(1, userId);
+            statement.setArray(2, connection.createArrayOf("varchar", ids));
+            statement.setArray(3, connection.createArrayOf("varchar", names));
+            return statement;
+        }, (resultSet, rowNum) -> resultSet.getBoolean("inserted"));
+
+        long insertedCount = inserted.stream().filter(Boolean::booleanValue).count();
+        long updatedCount = inserted.size() - insertedCount;
+        return new ExternalProjectBulkResponseDTO(insertedCount, updatedCount, ids.length - inserted.size());
+    }
+}
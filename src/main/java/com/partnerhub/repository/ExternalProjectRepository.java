@@ -1,10 +1,81 @@
 package com.partnerhub.repository;
 
 import com.partnerhub.domain.ExternalProject;
+import com.partnerhub.domain.ExternalProjectId;
+import com.partnerhub.dto.ExternalProjectResponseDTO;
+import com.partnerhub.dto.ListVersionDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+
+public interface ExternalProjectRepository
+        extends JpaRepository<ExternalProject, ExternalProjectId>,
+                ExternalProjectBulkOperations,
+                ExternalProjectWriteOperations {
+
+    /**
+     * Constructor expression used by the read-only queries below: responses are built straight from
+     * the selected columns, so no entity is hydrated or tracked.
+     */
+    String RESPONSE = "new com.partnerhub.dto.ExternalProjectResponseDTO(p.id, p.name, p.createdAt, p.updatedAt)";
 
-public interface ExternalProjectRepository extends JpaRepository<ExternalProject, String> {
     List<ExternalProject> findByUserId(Long userId);
+
+    @Query("select " + RESPONSE + " from ExternalProject p where p.user.id = :userId")
+    List<ExternalProjectResponseDTO> findResponsesByUserId(@Param("userId") Long userId);
+
+    // Both primary-key columns are bound, so this is a single probe of the (id, user_id) index.
+    @Query("select " + RESPONSE + " from ExternalProject p where p.id = :projectId and p.user.id = :userId")
+    Optional<ExternalProjectResponseDTO> findResponseByUserIdAndId(
+            @Param("userId") Long userId,
+            @Param("projectId") String projectId
+    );
+
+    @Query("select count(p) > 0 from ExternalProject p where p.id = :projectId")
+    boolean existsForAnyUser(@Param("projectId") String projectId);
+
+    @Query("""
+            select new com.partnerhub.dto.ListVersionDTO(count(p), max(p.updatedAt))
+            from ExternalProject p
+            where p.user.id = :userId""")
+    ListVersionDTO findListVersionByUserId(@Param("userId") Long userId);
+
+    @Query("select " + RESPONSE + " from ExternalProject p where p.user.id = :userId order by p.createdAt, p.id")
+    List<ExternalProjectResponseDTO> findResponsePageByCreatedAt(@Param("userId") Long userId, Limit limit);
+
+    @Query("select " + RESPONSE + " from ExternalProject p where p.user.id = :userId order by p.name, p.id")
+    List<ExternalProjectResponseDTO> findResponsePageByName(@Param("userId") Long userId, Limit limit);
+
+    // The redundant ">=" bound lets Postgres turn the keyset predicate into a range scan on
+    // idx_project_user_created_at instead of filtering the whole (user_id) prefix.
+    @Query("select " + RESPONSE + """
+             from ExternalProject p
+            where p.user.id = :userId
+              and p.createdAt >= :createdAt
+              and (p.createdAt > :createdAt or p.id > :id)
+            order by p.createdAt, p.id""")
+    List<ExternalProjectResponseDTO> findResponsePageAfterCreatedAt(
+            @Param("userId") Long userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") String id,
+            Limit limit
+    );
+
+    @Query("select " + RESPONSE + """
+             from ExternalProject p
+            where p.user.id = :userId
+              and p.name >= :name
+              and (p.name > :name or p.id > :id)
+            order by p.name, p.id""")
+    List<ExternalProjectResponseDTO> findResponsePageAfterName(
+            @Param("userId") Long userId,
+            @Param("name") String name,
+            @Param("id") String id,
+            Limit limit
+    );
 }
@@ -0,0 +1,26 @@
+package com.partnerhub.repository;
+
+import com.partnerhub.domain.ExternalProject;
+import com.partnerhub.dto.ExternalProjectResponseDTO;
+
+import java.util.Optional;
+
+/**
+ * Single-statement writes for projects, which rely on the primary key and the user foreign key
+ * instead of loading rows first.
+ */
+public interface ExternalProjectWriteOperations {
+
+    /**
+     * Persists a new project and flushes it right away, so a duplicate key or a missing user surfaces as a
+     * {@link org.springframework.dao.DataIntegrityViolationException} here. Unlike {@code save}, an assigned
+     * ID never triggers a {@code merge} and its preliminary SELECT.
+     */
+    ExternalProject insert(ExternalProject project);
+
+    /**
+     * Renames the user's project with one {@code UPDATE ... RETURNING}. Empty when the user has no project
+     * with that ID.
+     */
+    Optional<ExternalProjectResponseDTO> rename(Long userId, String projectId, String name);
+}
@@ -0,0 +1,47 @@
+package com.partnerhub.repository;
+
+import com.partnerhub.domain.ExternalProject;
+import com.partnerhub.dto.ExternalProjectResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+
+class ExternalProjectWriteOperationsImpl implements ExternalProjectWriteOperations {
+
+    private static final String RENAME_SQL = """
+            UPDATE tb_user_external_project
+               SET name = ?,
+                   updated_at = now()
+             WHERE id = ? AND user_id = ?
+            RETURNING id, name, created_at, updated_at""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ExternalProjectWriteOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public ExternalProject insert(ExternalProject project) {
+        entityManager.persist(project);
+        entityManager.flush();
+        return project;
+    }
+
+    @Override
+    public Optional<ExternalProjectResponseDTO> rename(Long userId, String projectId, String name) {
+        return jdbcTemplate.query(RENAME_SQL, (resultSet, rowNum) -> new ExternalProjectResponseDTO(
+                        resultSet.getString("id"),
+                        resultSet.getString("name"),
+                        resultSet.getTimestamp("created_at").toInstant(),
+                        resultSet.getTimestamp("updated_at").toInstant()
+                ), name, projectId, userId)
+                .stream()
+                .findFirst();
+    }
+}
@@ -1,10 +1,46 @@
 package com.partnerhub.repository;
 
 import com.partnerhub.domain.User;
+import com.partnerhub.dto.UserResponseDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+
+    /**
+     * Constructor expression used by the read-only queries below: responses are built straight from
+     * the selected columns, so no entity is hydrated or tracked and the password is never read.
+     */
+    String RESPONSE = "new com.partnerhub.dto.UserResponseDTO(u.id, u.email, u.name, u.createdAt, u.updatedAt)";
+
+    @Query("select u from User u where lower(u.email) = lower(:email)")
+    Optional<User> findByEmail(@Param("email") String email);
+
+    @Query("select " + RESPONSE + " from User u where u.id = :id")
+    Optional<UserResponseDTO> findResponseById(@Param("id") Long id);
+
+    /**
+     * Returns the registered emails among {@code lowerCaseEmails}, which must already be lower-cased.
+     */
+    @Query("select lower(u.email) from User u where lower(u.email) in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> lowerCaseEmails);
+
+    @Query("select u.updatedAt from User u where u.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") Long id);
+
+    @Query("select " + RESPONSE + " from User u order by u.id")
+    List<UserResponseDTO> findAllResponses();
+
+    @Query("select " + RESPONSE + " from User u order by u.id")
+    List<UserResponseDTO> findResponsePage(Limit limit);
+
+    @Query("select " + RESPONSE + " from User u where u.id > :after order by u.id")
+    List<UserResponseDTO> findResponsePageAfter(@Param("after") Long after, Limit limit);
 }
@@ -0,0 +1,134 @@
+package com.partnerhub.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the number of requests in flight with a limit that adapts to observed latency (AIMD).
+ * <p>
+ * Every completed request is a sample: if it was slower than its latency threshold, or the caller reports it
+ * as overloaded, the limit shrinks multiplicatively; if it completed in time while at least half of the limit
+ * was in use, the limit grows by one. The limit therefore settles around the concurrency the database can
+ * serve within the threshold, and requests beyond it are rejected immediately instead of queueing for a
+ * connection.
+ * <p>
+ * The limit backs off at most once per generation: only a request admitted after the previous decrease can
+ * shrink it again, so a burst of slow requests that were all in flight together counts as one overload signal
+ * instead of cutting the limit once per request. The limit is updated lock-free.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, LongSupplier clock) {
+        if (properties.getMinLimit() < 1 || properties.getMaxLimit() < properties.getMinLimit()) {
+            throw new IllegalArgumentException("Concurrency limit bounds must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+        this.backoffRatio = properties.getBackoffRatio();
+        this.clock = clock;
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(Math.clamp(properties.getInitialLimit(), minLimit, maxLimit)));
+        this.lastDecreaseNanos = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Takes a slot if one is free under the current limit, judging the request against the default latency
+     * threshold.
+     *
+     * @return the permit to release once the request completes, or {@code null} when the request must be shed
+     */
+    public Permit tryAcquire() {
+        return tryAcquire(latencyThresholdNanos);
+    }
+
+    /**
+     * Takes a slot if one is free under the current limit.
+     *
+     * @param latencyThresholdNanos latency above which this request counts as a sign of overload; 0 means its
+     *                              latency is never held against the limit
+     * @return the permit to release once the request completes, or {@code null} when the request must be shed
+     */
+    public Permit tryAcquire(long latencyThresholdNanos) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1, clock.getAsLong(), latencyThresholdNanos);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getLatencyThresholdNanos() {
+        return latencyThresholdNanos;
+    }
+
+    private void onSample(Permit permit, long endNanos, boolean overloaded) {
+        long latencyNanos = endNanos - permit.startNanos;
+        boolean slow = permit.latencyThresholdNanos > 0 && latencyNanos > permit.latencyThresholdNanos;
+        if (overloaded || slow) {
+            long lastDecrease = lastDecreaseNanos.get();
+            // Admitted before the last decrease: that backoff already answered the burst this request belongs to.
+            if (permit.startNanos - lastDecrease >= 0 && lastDecreaseNanos.compareAndSet(lastDecrease, endNanos)) {
+                updateLimit(limit -> Math.max(minLimit, limit * backoffRatio));
+            }
+        } else {
+            updateLimit(limit -> permit.inFlightAtStart * 2 >= limit ? Math.min(maxLimit, limit + 1) : limit);
+        }
+    }
+
+    private void updateLimit(DoubleUnaryOperator update) {
+        while (true) {
+            long currentBits = limitBits.get();
+            double current = Double.longBitsToDouble(currentBits);
+            double next = update.applyAsDouble(current);
+            if (next == current || limitBits.compareAndSet(currentBits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    public final class Permit {
+
+        private final int inFlightAtStart;
+        private final long startNanos;
+        private final long latencyThresholdNanos;
+
+        private Permit(int inFlightAtStart, long startNanos, long latencyThresholdNanos) {
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+            this.latencyThresholdNanos = latencyThresholdNanos;
+        }
+
+        /**
+         * Frees the slot and feeds the request's latency into the limit.
+         *
+         * @param overloaded whether the request failed in a way that indicates overload (e.g. a 503)
+         */
+        public void release(boolean overloaded) {
+            inFlight.decrementAndGet();
+            onSample(this, clock.getAsLong(), overloaded);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.partnerhub.resilience;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when no database permit became available within the bulkhead's maximum wait. Handled like any other
+ * saturated pool: {@code 503 Service Unavailable}.
+ */
+public class BulkheadFullException extends RejectedExecutionException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
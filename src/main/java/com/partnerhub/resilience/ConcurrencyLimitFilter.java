@@ -0,0 +1,104 @@
+package com.partnerhub.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sheds load with {@code 503 Service Unavailable} once more requests are in flight than the
+ * {@link AdaptiveConcurrencyLimiter} allows, so excess requests fail in microseconds instead of waiting for a
+ * database connection until the pool times out.
+ * <p>
+ * The current limit and in-flight count are exported as {@code concurrency_limit} and
+ * {@code concurrency_in_flight}, shed requests as {@code concurrency_limit_rejections_total}. Requests on routes
+ * with a {@link ConcurrencyLimitProperties.Rule} are judged against that rule's latency threshold instead of the
+ * default one, so slow-by-design endpoints such as bulk creation do not shrink the limit for cheap reads.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final List<ThresholdRoute> routes;
+    private final ObjectMapper objectMapper;
+    private final Counter rejections;
+
+    public ConcurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter limiter,
+            ConcurrencyLimitProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.routes = properties.getRules().stream()
+                .map(rule -> new ThresholdRoute(
+                        PathPatternParser.defaultInstance.parse(rule.getPattern()),
+                        rule.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet()),
+                        rule.getLatencyThreshold().toNanos()))
+                .toList();
+        Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive limit of concurrent requests")
+                .register(meterRegistry);
+        Gauge.builder("concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted by the concurrency limiter")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("concurrency.limit.rejections")
+                .description("Requests shed with 503 by the concurrency limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(latencyThresholdFor(request));
+        if (permit == null) {
+            rejections.increment();
+            log.debug("Concurrency limit {} reached, shedding {} {}", limiter.getLimit(), request.getMethod(), request.getRequestURI());
+            ErrorResponses.write(objectMapper, request, response, HttpStatus.SERVICE_UNAVAILABLE, 1,
+                    "Server is busy, please retry later");
+            return;
+        }
+        boolean overloaded = true;
+        try {
+            filterChain.doFilter(request, response);
+            overloaded = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            permit.release(overloaded);
+        }
+    }
+
+    private long latencyThresholdFor(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return limiter.getLatencyThresholdNanos();
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (ThresholdRoute route : routes) {
+            if ((route.methods().isEmpty() || route.methods().contains(request.getMethod()))
+                    && route.pattern().matches(path)) {
+                return route.latencyThresholdNanos();
+            }
+        }
+        return limiter.getLatencyThresholdNanos();
+    }
+
+    private record ThresholdRoute(PathPattern pattern, Set<String> methods, long latencyThresholdNanos) {
+    }
+}
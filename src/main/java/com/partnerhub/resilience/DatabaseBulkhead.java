@@ -0,0 +1,114 @@
+package com.partnerhub.resilience;
+
+import com.partnerhub.diagnostics.TargetNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Semaphore bulkhead in front of the database, sized to the connection pool.
+ * <p>
+ * A permit is taken by the outermost unit of database work on a thread, either a repository call or a
+ * {@code @Transactional} service method, and held until it returns. The advice runs after the cache advice
+ * (cache hits never take a permit) and before the transaction advice, so the permit is held before a
+ * transaction borrows its connection and until it has committed: the wait measures queueing for the pool and
+ * the hold measures connection usage. Nested calls on the same thread reuse the permit.
+ * <p>
+ * Callers wait at most {@code maxWait} for a permit, then fail fast with {@link BulkheadFullException}. Metrics,
+ * tagged with the entry point ({@code target} class and {@code method}):
+ * {@code db_bulkhead_wait_seconds}, {@code db_bulkhead_hold_seconds} (histograms),
+ * {@code db_bulkhead_rejections_total}, plus {@code db_bulkhead_available} and {@code db_bulkhead_queued}.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class DatabaseBulkhead {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private final Map<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+
+    public DatabaseBulkhead(int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("db.bulkhead.available", permits, Semaphore::availablePermits)
+                .description("Free database bulkhead permits")
+                .register(meterRegistry);
+        Gauge.builder("db.bulkhead.queued", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a database bulkhead permit")
+                .register(meterRegistry);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || execution(@org.springframework.transaction.annotation.Transactional * com.partnerhub.service..*(..))")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (holdsPermit.get()) {
+            return joinPoint.proceed();
+        }
+        Meters meters = metersFor(joinPoint);
+        long waitStart = System.nanoTime();
+        boolean acquired = maxWaitNanos > 0
+                ? permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)
+                : permits.tryAcquire();
+        long holdStart = System.nanoTime();
+        meters.waitTime().record(holdStart - waitStart, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            meters.rejections().increment();
+            throw new BulkheadFullException("No database connection available within "
+                    + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + " ms");
+        }
+        holdsPermit.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            holdsPermit.remove();
+            permits.release();
+            meters.holdTime().record(System.nanoTime() - holdStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Meters metersFor(ProceedingJoinPoint joinPoint) {
+        MeterKey key = new MeterKey(joinPoint.getTarget().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod());
+        return meters.computeIfAbsent(key, k -> {
+            String target = TargetNames.of(joinPoint.getTarget());
+            String name = k.method().getName();
+            return new Meters(
+                    Timer.builder("db.bulkhead.wait")
+                            .description("Time spent waiting for a database bulkhead permit")
+                            .tags("target", target, "method", name)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry),
+                    Timer.builder("db.bulkhead.hold")
+                            .description("Time a database bulkhead permit was held")
+                            .tags("target", target, "method", name)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry),
+                    Counter.builder("db.bulkhead.rejections")
+                            .description("Calls rejected because no database bulkhead permit became available")
+                            .tags("target", target, "method", name)
+                            .register(meterRegistry));
+        });
+    }
+
+    private record MeterKey(Class<?> targetClass, Method method) {
+    }
+
+    private record Meters(Timer waitTime, Timer holdTime, Counter rejections) {
+    }
+}
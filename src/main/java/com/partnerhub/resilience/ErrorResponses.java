@@ -0,0 +1,44 @@
+package com.partnerhub.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.partnerhub.dto.ErrorResponseDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes the standard {@link ErrorResponseDTO} body from servlet filters, which run outside the reach of
+ * {@link com.partnerhub.exception.GlobalExceptionHandler}.
+ */
+final class ErrorResponses {
+
+    private ErrorResponses() {
+    }
+
+    static void write(
+            ObjectMapper objectMapper,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            HttpStatus status,
+            long retryAfterSeconds,
+            String message
+    ) throws IOException {
+        ErrorResponseDTO body = new ErrorResponseDTO();
+        body.setTimestamp(DateTimeFormatter.ISO_INSTANT.format(Instant.now()));
+        body.setStatus(status.value());
+        body.setError(status.getReasonPhrase());
+        body.setMessage(message);
+        body.setPath(request.getRequestURI());
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,142 @@
+package com.partnerhub.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Rate limits requests per client and route template, answering {@code 429 Too Many Requests} with a
+ * {@code Retry-After} header once a client has used up its bucket.
+ * <p>
+ * Two instances are registered. The main one runs after Spring Security, so clients are identified by their
+ * authenticated principal (falling back to the remote address). Each configured rule has its own buckets, keyed
+ * by client, so one partner exhausting its budget on a bulk endpoint does not affect other partners or other
+ * routes. Rules marked {@code pre-authentication} are instead enforced by an instance running before Spring
+ * Security and keyed by remote address, so rejected credentials consume the budget too; such routes are skipped
+ * by the main instance. Rejections are counted in {@code rate_limit_rejections_total{rule}}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final boolean preAuthentication;
+    private final List<LimitedRoute> routes;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param preAuthentication whether this instance runs before Spring Security and enforces the
+     *                          {@code pre-authentication} rules, or after it and enforces the others
+     */
+    public RateLimitFilter(
+            RateLimitProperties properties,
+            boolean preAuthentication,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this(properties, preAuthentication, objectMapper, meterRegistry, System::nanoTime);
+    }
+
+    RateLimitFilter(
+            RateLimitProperties properties,
+            boolean preAuthentication,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            LongSupplier clock
+    ) {
+        this.preAuthentication = preAuthentication;
+        this.objectMapper = objectMapper;
+        // Rules of the other phase are kept (without buckets) so first-match-wins stays the same in both filters.
+        this.routes = properties.getRules().stream()
+                .map(rule -> new LimitedRoute(
+                        rule.getPattern(),
+                        PathPatternParser.defaultInstance.parse(rule.getPattern()),
+                        rule.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet()),
+                        rule.isPreAuthentication() != preAuthentication ? null
+                                : new TokenBuckets(rule.getCapacity(), rule.getRefillPerSecond(), properties.getMaxBuckets(), clock),
+                        rule.isPreAuthentication() != preAuthentication ? null
+                                : Counter.builder("rate.limit.rejections")
+                                        .description("Requests rejected with 429 by the rate limiter")
+                                        .tag("rule", rule.getPattern())
+                                        .register(meterRegistry)))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        LimitedRoute route = findRoute(request);
+        if (route != null && route.buckets() != null) {
+            String client = clientOf(request);
+            long waitNanos = route.buckets().tryAcquire(client);
+            if (waitNanos > 0) {
+                route.rejections().increment();
+                log.warn("Rate limit exceeded for {} on {} {}", client, request.getMethod(), route.template());
+                reject(request, response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private LimitedRoute findRoute(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (LimitedRoute route : routes) {
+            if ((route.methods().isEmpty() || route.methods().contains(request.getMethod()))
+                    && route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        if (preAuthentication) {
+            return "ip:" + request.getRemoteAddr();
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        ErrorResponses.write(objectMapper, request, response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds,
+                String.format("Rate limit exceeded, retry in %d seconds", retryAfterSeconds));
+    }
+
+    /**
+     * {@code buckets} and {@code rejections} are {@code null} for routes enforced by the other instance.
+     */
+    private record LimitedRoute(
+            String template,
+            PathPattern pattern,
+            Set<String> methods,
+            TokenBuckets buckets,
+            Counter rejections
+    ) {
+    }
+}
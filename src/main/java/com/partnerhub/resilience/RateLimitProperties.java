@@ -0,0 +1,116 @@
+package com.partnerhub.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-route rate limits under {@code rate-limit.*}. Rules are evaluated in order and the first one whose
+ * pattern and method match the request applies; requests matching no rule are not limited.
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound of tracked (client, rule) buckets; idle buckets are dropped once they would be full again.
+     */
+    private long maxBuckets = 100_000;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(long maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+
+        /**
+         * Route template in Spring MVC syntax, e.g. {@code /api/users/{userId}/projects/bulk} or {@code /api/**}.
+         */
+        private String pattern;
+
+        /**
+         * HTTP methods the rule applies to; empty means every method.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Burst size: how many requests a client may send at once after being idle.
+         */
+        private int capacity;
+
+        /**
+         * Sustained rate, in requests per second, at which the bucket refills.
+         */
+        private double refillPerSecond;
+
+        /**
+         * Enforce the rule before Spring Security, keyed by remote address, so requests with bad credentials
+         * consume the budget too (e.g. to throttle password guessing on the token endpoint).
+         */
+        private boolean preAuthentication;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        public boolean isPreAuthentication() {
+            return preAuthentication;
+        }
+
+        public void setPreAuthentication(boolean preAuthentication) {
+            this.preAuthentication = preAuthentication;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.partnerhub.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Answers {@code 503 Service Unavailable} with {@code Retry-After} when a bounded worker pool rejects work
+ * before the request reaches a controller, e.g. the password hashing pool while HTTP Basic credentials are
+ * verified inside the Spring Security filter chain.
+ * <p>
+ * Rejections raised in controllers are handled by {@link com.partnerhub.exception.GlobalExceptionHandler};
+ * this filter covers everything wrapped around them. Shed requests are counted as
+ * {@code executor_rejections_total}.
+ */
+public class RejectedExecutionFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RejectedExecutionFilter.class);
+
+    private final ObjectMapper objectMapper;
+    private final Counter rejections;
+
+    public RejectedExecutionFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.rejections = Counter.builder("executor.rejections")
+                .description("Requests shed with 503 because a bounded worker pool was saturated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (RuntimeException | ServletException ex) {
+            RejectedExecutionException rejection = findRejection(ex);
+            if (rejection == null || response.isCommitted()) {
+                throw ex;
+            }
+            rejections.increment();
+            log.debug("Worker pool saturated, shedding {} {}: {}", request.getMethod(), request.getRequestURI(), rejection.getMessage());
+            response.reset();
+            ErrorResponses.write(objectMapper, request, response, HttpStatus.SERVICE_UNAVAILABLE, 1,
+                    "Server is busy, please retry later");
+        }
+    }
+
+    private static RejectedExecutionException findRejection(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RejectedExecutionException rejection) {
+                return rejection;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.partnerhub.resilience;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets, one per key, implemented with the generic cell rate algorithm (GCRA).
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the "theoretical arrival time" of the next request; taking
+ * a token is one compare-and-set, so concurrent requests of different clients never contend and requests of
+ * the same client contend only on their own cell. A bucket that has been idle long enough to be full again
+ * carries no information and is evicted.
+ */
+public class TokenBuckets {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier clock;
+
+    public TokenBuckets(int capacity, double refillPerSecond, long maxBuckets, LongSupplier clock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = intervalNanos * (capacity - 1);
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofNanos(intervalNanos * capacity))
+                .build();
+    }
+
+    /**
+     * Takes a token for {@code key}.
+     *
+     * @return {@code 0} when the request is allowed, otherwise how long (in nanoseconds) the client has to wait
+     * before a token becomes available
+     */
+    public long tryAcquire(String key) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = clock.getAsLong();
+            long current = theoreticalArrival.get();
+            long start = current == Long.MIN_VALUE ? now : Math.max(current, now);
+            long waitNanos = start - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.partnerhub.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Remembers successful username/password authentications for a short time, so repeated HTTP Basic requests
+ * skip the (deliberately slow) password hash verification.
+ * <p>
+ * Entries are keyed by a SHA-256 digest of the credentials, never by the raw password. A hit is only honoured
+ * while the user's stored password hash is still the one that was verified and the account is still usable,
+ * so changing a password or disabling the account invalidates the entry on the next request. Failed
+ * attempts are never cached.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, VerifiedCredentials> cache;
+    private final Timer verificationTimer;
+
+    public CachingAuthenticationProvider(
+            AuthenticationProvider delegate,
+            UserDetailsService userDetailsService,
+            Duration ttl,
+            long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.verificationTimer = Timer.builder("security.authentication.verification")
+                .description("Time spent verifying credentials against the stored password hash")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "authentication");
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        String key = digest(username, credentials.toString());
+        VerifiedCredentials cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (isStillValid(username, cached)) {
+                return cached.authentication();
+            }
+            cache.invalidate(key);
+        }
+
+        Authentication result = verificationTimer.record(() -> delegate.authenticate(authentication));
+        // Captured now: the ProviderManager erases the principal's password once this method returns.
+        if (result != null && result.getPrincipal() instanceof UserDetails user && user.getPassword() != null) {
+            cache.put(key, new VerifiedCredentials(result, user.getPassword()));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    /**
+     * Drops every cached authentication of the user, e.g. right after an administrative password reset.
+     */
+    public void invalidate(String username) {
+        cache.asMap().values().removeIf(entry -> entry.authentication().getName().equals(username));
+    }
+
+    private boolean isStillValid(String username, VerifiedCredentials cached) {
+        try {
+            UserDetails current = userDetailsService.loadUserByUsername(username);
+            return cached.encodedPassword().equals(current.getPassword())
+                    && current.isEnabled()
+                    && current.isAccountNonLocked()
+                    && current.isAccountNonExpired()
+                    && current.isCredentialsNonExpired();
+        } catch (UsernameNotFoundException ex) {
+            return false;
+        }
+    }
+
+    private static String digest(String username, String password) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(username.getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0);
+            sha256.update(password.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(sha256.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record VerifiedCredentials(Authentication authentication, String encodedPassword) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.partnerhub.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs password hashing and verification on a dedicated, bounded pool of platform threads.
+ * <p>
+ * Adaptive hashes are CPU-bound for tens of milliseconds; running them on request threads would pin the
+ * virtual-thread carriers during signup or login bursts. Callers block on the result instead (which unmounts a
+ * virtual thread), and once the pool's queue is full new work is rejected with a
+ * {@link RejectedExecutionException} rather than piling up.
+ */
+public class PasswordHasher implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    public PasswordHasher(PasswordEncoder delegate, ExecutorService executor, int parallelism) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(executor.submit(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(executor.submit(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Only inspects the encoded form (algorithm id and cost), so it runs on the caller's thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Encodes several passwords, at most one per pool thread at a time so a large batch cannot fill the queue
+     * on its own. Results are in input order.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int start = 0; start < rawPasswords.size(); start += parallelism) {
+            List<Future<String>> window = new ArrayList<>(parallelism);
+            for (CharSequence rawPassword : rawPasswords.subList(start, Math.min(start + parallelism, rawPasswords.size()))) {
+                window.add(executor.submit(() -> delegate.encode(rawPassword)));
+            }
+            for (Future<String> future : window) {
+                encoded.add(await(future));
+            }
+        }
+        return encoded;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
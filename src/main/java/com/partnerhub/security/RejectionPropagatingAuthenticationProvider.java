@@ -0,0 +1,43 @@
+package com.partnerhub.security;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Lets a saturated {@link PasswordHasher} pool surface as a {@link RejectedExecutionException} instead of a
+ * failed login.
+ * <p>
+ * {@code DaoAuthenticationProvider} wraps failures while loading the user, including its one-off timing-attack
+ * hash, in an {@link InternalAuthenticationServiceException}, which the HTTP Basic filter answers with
+ * {@code 401}. The rejection is unwrapped here so it leaves the security filter chain and is shed with
+ * {@code 503} by {@link com.partnerhub.resilience.RejectedExecutionFilter}.
+ */
+public class RejectionPropagatingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+
+    public RejectionPropagatingAuthenticationProvider(AuthenticationProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        try {
+            return delegate.authenticate(authentication);
+        } catch (InternalAuthenticationServiceException ex) {
+            if (ex.getCause() instanceof RejectedExecutionException rejection) {
+                throw rejection;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -1,17 +1,31 @@
 package com.partnerhub.service;
 
 import com.partnerhub.domain.ExternalProject;
-import com.partnerhub.domain.User;
+import com.partnerhub.dto.ExternalProjectBulkResponseDTO;
+import com.partnerhub.dto.ExternalProjectResponseDTO;
 import com.partnerhub.dto.ExternalProjectUpdateRequestDTO;
+import com.partnerhub.dto.ListVersionDTO;
+import com.partnerhub.exception.BadRequestException;
+import com.partnerhub.exception.ConstraintViolations;
 import com.partnerhub.exception.NotFoundException;
+import com.partnerhub.logging.SampledLogger;
+import com.partnerhub.logging.SamplingPolicy;
+import com.partnerhub.pagination.CursorPage;
+import com.partnerhub.pagination.Cursors;
+import com.partnerhub.pagination.ProjectSort;
 import com.partnerhub.repository.ExternalProjectRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 @Service
 public class ExternalProjectService {
@@ -20,63 +34,170 @@ public class ExternalProjectService {
 
     private final ExternalProjectRepository externalProjectRepository;
     private final UserService userService;
+    private final SampledLogger sampledLog;
 
-    public ExternalProjectService(ExternalProjectRepository externalProjectRepository, UserService userService) {
+    public ExternalProjectService(
+            ExternalProjectRepository externalProjectRepository,
+            UserService userService,
+            SamplingPolicy samplingPolicy
+    ) {
         this.externalProjectRepository = externalProjectRepository;
         this.userService = userService;
+        this.sampledLog = SampledLogger.of(log, samplingPolicy);
     }
 
+    /**
+     * Inserts the project with a single INSERT against a user reference: the primary key reports a duplicate
+     * project and the user foreign key a missing user, so neither is looked up beforehand.
+     */
     @Transactional
     public ExternalProject addProject(Long userId, ExternalProject project) {
         log.info("Attempting to add external project with ID {} for user ID {}", project.getId(), userId);
 
-        User user = userService.findById(userId);
-        project.setUser(user);
-
-        Optional<ExternalProject> existing = externalProjectRepository.findById(project.getId());
-        if (existing.isPresent() &&
-                existing.get().getUser() != null &&
-                existing.get().getUser().getId().equals(userId)) {
-            log.warn("External project with ID {} already exists for user ID {}", project.getId(), userId);
-            throw new IllegalArgumentException(
-                    String.format("Project with ID %s already exists for user with ID %d", project.getId(), userId)
-            );
+        project.setUser(userService.getReference(userId));
+
+        ExternalProject saved;
+        try {
+            saved = externalProjectRepository.insert(project);
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isUniqueViolation(ex)) {
+                log.warn("External project with ID {} already exists for user ID {}", project.getId(), userId);
+                throw new IllegalArgumentException(
+                        String.format("Project with ID %s already exists for user with ID %d", project.getId(), userId)
+                );
+            }
+            if (ConstraintViolations.isForeignKeyViolation(ex)) {
+                log.warn("User with ID {} not found", userId);
+                throw new NotFoundException(String.format("User with ID %d not found", userId));
+            }
+            throw ex;
         }
 
-        ExternalProject saved = externalProjectRepository.save(project);
         log.info("External project saved with ID {} for user ID {}", saved.getId(), userId);
         return saved;
     }
 
+    /**
+     * Inserts the given projects for the user, or renames the ones that already exist, in a single statement.
+     * When the same project ID appears more than once the last occurrence wins. A missing user is detected
+     * through the foreign key instead of a preliminary lookup.
+     */
+    @Transactional
+    public ExternalProjectBulkResponseDTO upsertProjects(Long userId, List<ExternalProject> projects) {
+        log.info("Upserting {} external projects for user ID {}", projects.size(), userId);
+
+        Map<String, ExternalProject> projectsById = new LinkedHashMap<>();
+        projects.forEach(project -> projectsById.put(project.getId(), project));
+
+        ExternalProjectBulkResponseDTO result;
+        try {
+            result = externalProjectRepository.upsertAll(userId, projectsById.values());
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isForeignKeyViolation(ex)) {
+                log.warn("User with ID {} not found", userId);
+                throw new NotFoundException(String.format("User with ID %d not found", userId));
+            }
+            throw ex;
+        }
+
+        log.info("Upserted projects for user ID {}: {} inserted, {} updated, {} unchanged",
+                userId, result.getInserted(), result.getUpdated(), result.getUnchanged());
+        return result;
+    }
+
     @Transactional(readOnly = true)
-    public List<ExternalProject> getProjectsByUserId(Long userId) {
-        log.info("Fetching external projects for user ID {}", userId);
-        List<ExternalProject> projects = externalProjectRepository.findByUserId(userId);
-        log.info("Found {} projects for user ID {}", projects.size(), userId);
+    public List<ExternalProjectResponseDTO> getProjectsByUserId(Long userId) {
+        sampledLog.info("Fetching external projects for user ID {}", userId);
+        List<ExternalProjectResponseDTO> projects = externalProjectRepository.findResponsesByUserId(userId);
+        sampledLog.info("Found {} projects for user ID {}", projects.size(), userId);
         return projects;
     }
 
-    @Transactional
-    public ExternalProject updateProject(Long userId, String projectId, ExternalProjectUpdateRequestDTO dto) {
-        log.info("Attempting to update project ID {} for user ID {}", projectId, userId);
+    /**
+     * Returns a single project of the user, looked up by the full primary key.
+     */
+    @Transactional(readOnly = true)
+    public ExternalProjectResponseDTO getProject(Long userId, String projectId) {
+        sampledLog.info("Fetching project ID {} for user ID {}", projectId, userId);
+        return externalProjectRepository.findResponseByUserIdAndId(userId, projectId)
+                .orElseThrow(() -> projectNotFound(userId, projectId));
+    }
+
+    /**
+     * Returns the number of projects of the user and their latest modification time, used as a cheap
+     * validator for conditional requests.
+     */
+    @Transactional(readOnly = true)
+    public ListVersionDTO getProjectListVersion(Long userId) {
+        return externalProjectRepository.findListVersionByUserId(userId);
+    }
 
-        User user = userService.findById(userId);
+    /**
+     * Returns up to {@code limit} projects of the user in {@code sort} order, starting right after
+     * the project identified by {@code cursor} (or from the beginning when it is {@code null}).
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ExternalProjectResponseDTO> getProjectPage(Long userId, ProjectSort sort, String cursor, int limit) {
+        sampledLog.info("Fetching page of external projects for user ID {} sorted by {} with limit {}",
+                userId, sort.getParameter(), limit);
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<ExternalProjectResponseDTO> projects;
+        if (cursor == null) {
+            projects = sort == ProjectSort.NAME
+                    ? externalProjectRepository.findResponsePageByName(userId, fetchLimit)
+                    : externalProjectRepository.findResponsePageByCreatedAt(userId, fetchLimit);
+        } else {
+            String[] parts = Cursors.decode(cursor, 3);
+            if (!sort.getParameter().equals(parts[0])) {
+                throw new BadRequestException("Pagination cursor does not match the requested sort");
+            }
+            projects = sort == ProjectSort.NAME
+                    ? externalProjectRepository.findResponsePageAfterName(userId, parts[1], parts[2], fetchLimit)
+                    : externalProjectRepository.findResponsePageAfterCreatedAt(userId, parseInstant(parts[1]), parts[2], fetchLimit);
+        }
+        return CursorPage.of(projects, limit, project -> cursorOf(sort, project));
+    }
 
-        ExternalProject project = externalProjectRepository.findById(projectId)
-                .orElseThrow(() -> {
-                    log.warn("Project not found with ID {}", projectId);
-                    return new NotFoundException(String.format("Project with ID %s not found", projectId));
-                });
+    private static String cursorOf(ProjectSort sort, ExternalProjectResponseDTO project) {
+        String key = sort == ProjectSort.NAME ? project.getName() : project.getCreatedAt().toString();
+        return Cursors.encode(sort.getParameter(), key, project.getId());
+    }
 
-        if (project.getUser() == null || !project.getUser().getId().equals(userId)) {
-            log.warn("Project {} does not belong to user ID {}", projectId, userId);
-            throw new NotFoundException(String.format("Project with ID %s does not belong to user with ID %d", projectId, userId));
+    private static Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new BadRequestException("Invalid pagination cursor");
         }
+    }
+
+    /**
+     * Renames the project with a single {@code UPDATE ... WHERE id = ? AND user_id = ?}.
+     */
+    @Transactional
+    public ExternalProjectResponseDTO updateProject(Long userId, String projectId, ExternalProjectUpdateRequestDTO dto) {
+        log.info("Attempting to update project ID {} for user ID {}", projectId, userId);
 
-        project.setName(dto.getName());
-        ExternalProject updated = externalProjectRepository.save(project);
+        ExternalProjectResponseDTO updated = externalProjectRepository.rename(userId, projectId, dto.getName())
+                .orElseThrow(() -> projectNotFound(userId, projectId));
 
         log.info("Project {} updated successfully for user ID {}", projectId, userId);
         return updated;
     }
-}
\ No newline at end of file
+
+    /**
+     * Explains why the user has no project with the given ID. Only called once the primary-key lookup missed.
+     */
+    private NotFoundException projectNotFound(Long userId, String projectId) {
+        if (!userService.existsById(userId)) {
+            log.warn("User with ID {} not found", userId);
+            return new NotFoundException(String.format("User with ID %d not found", userId));
+        }
+        if (!externalProjectRepository.existsForAnyUser(projectId)) {
+            log.warn("Project not found with ID {}", projectId);
+            return new NotFoundException(String.format("Project with ID %s not found", projectId));
+        }
+        log.warn("Project {} does not belong to user ID {}", projectId, userId);
+        return new NotFoundException(String.format("Project with ID %s does not belong to user with ID %d", projectId, userId));
+    }
+}
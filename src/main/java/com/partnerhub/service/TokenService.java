@@ -0,0 +1,62 @@
+package com.partnerhub.service;
+
+import com.partnerhub.config.TokenConfig;
+import com.partnerhub.dto.TokenResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    private final JwtEncoder jwtEncoder;
+    private final String issuer;
+    private final Duration ttl;
+
+    public TokenService(
+            JwtEncoder jwtEncoder,
+            @Value("${security.token.issuer:partner-hub}") String issuer,
+            @Value("${security.token.ttl:15m}") Duration ttl
+    ) {
+        this.jwtEncoder = jwtEncoder;
+        this.issuer = issuer;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Issues a short-lived signed token for an already authenticated user, carrying their authorities.
+     */
+    public TokenResponseDTO issueToken(Authentication authentication) {
+        Instant now = Instant.now();
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject(authentication.getName())
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .claim(TokenConfig.ROLES_CLAIM, roles)
+                .build();
+        JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256).build();
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+
+        log.info("Issued token for {} valid for {}", authentication.getName(), ttl);
+        return new TokenResponseDTO(token, "Bearer", ttl.toSeconds());
+    }
+}
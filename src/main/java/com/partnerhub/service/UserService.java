@@ -1,17 +1,35 @@
 package com.partnerhub.service;
 
+import com.partnerhub.config.CacheConfig;
 import com.partnerhub.domain.User;
+import com.partnerhub.dto.BulkUserResultDTO;
+import com.partnerhub.dto.UserResponseDTO;
 import com.partnerhub.dto.UserUpdateRequestDTO;
+import com.partnerhub.exception.ConstraintViolations;
 import com.partnerhub.exception.NotFoundException;
+import com.partnerhub.logging.SampledLogger;
+import com.partnerhub.logging.SamplingPolicy;
+import com.partnerhub.pagination.CursorPage;
+import com.partnerhub.pagination.Cursors;
 import com.partnerhub.repository.UserRepository;
-//import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.partnerhub.security.PasswordHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class UserService {
@@ -19,30 +37,83 @@ public class UserService {
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
 
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final SampledLogger sampledLog;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher, SamplingPolicy samplingPolicy) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.sampledLog = SampledLogger.of(log, samplingPolicy);
     }
 
-    @Transactional
+    /**
+     * Creates the user with a hashed password. Deliberately not transactional: the password is hashed before
+     * the insert and must not hold a pooled connection while it runs. Email uniqueness is left to the
+     * case-insensitive unique index, so a taken email costs no extra query and concurrent sign-ups cannot race.
+     */
     public User createUser(User user) {
         log.info("Attempting to create user with email: {}", user.getEmail());
 
-        if (userRepository.findByEmail(user.getEmail()).isPresent()) {
-            log.warn("Email {} is already registered", user.getEmail());
-            throw new IllegalArgumentException("Email has already been registered");
-        }
-
-//        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordHasher.encode(user.getPassword()));
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw emailTaken(ex, user.getEmail());
+        }
         log.info("User created with ID: {}", savedUser.getId());
         return savedUser;
     }
 
+    /**
+     * Creates the given users in one transaction and returns one result per user, in the same order.
+     * <p>
+     * Emails already registered are found with a single query, and emails repeated inside the batch (ignoring
+     * case) keep only their first occurrence; both are reported as duplicates. The remaining users get their passwords hashed in
+     * parallel, outside any transaction, and are then persisted together so Hibernate flushes them as batched
+     * INSERTs.
+     */
+    public List<BulkUserResultDTO> createUsers(List<User> users) {
+        log.info("Attempting to create {} users in bulk", users.size());
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> emails = new HashSet<>();
+        users.forEach(user -> emails.add(normalize(user.getEmail())));
+        Set<String> taken = new HashSet<>(userRepository.findExistingEmails(emails));
+
+        List<User> newUsers = new ArrayList<>(users.size());
+        boolean[] duplicate = new boolean[users.size()];
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            duplicate[i] = !taken.add(normalize(user.getEmail()));
+            if (!duplicate[i]) {
+                newUsers.add(user);
+            }
+        }
+
+        List<String> hashes = passwordHasher.encodeAll(newUsers.stream().map(User::getPassword).toList());
+        for (int i = 0; i < newUsers.size(); i++) {
+            newUsers.get(i).setPassword(hashes.get(i));
+        }
+        userRepository.saveAll(newUsers);
+
+        List<BulkUserResultDTO> results = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            results.add(duplicate[i]
+                    ? BulkUserResultDTO.duplicate(user.getEmail())
+                    : BulkUserResultDTO.created(user.getId(), user.getEmail()));
+        }
+        log.info("Bulk creation stored {} of {} users", newUsers.size(), users.size());
+        return results;
+    }
+
     @Transactional(readOnly = true)
     public User findById(Long id) {
-        log.info("Looking for user with ID: {}", id);
+        sampledLog.info("Looking for user with ID: {}", id);
         return userRepository.findById(id)
                 .orElseThrow(() -> {
                     log.warn("User with ID {} not found", id);
@@ -50,12 +121,68 @@ public class UserService {
                 });
     }
 
+    /**
+     * Returns a lazy reference to the user without querying the database. Callers that only need the user as a
+     * foreign key rely on the constraint to detect a missing user when the change is flushed.
+     */
+    public User getReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsById(Long id) {
+        return userRepository.existsById(id);
+    }
+
+    /**
+     * Read-only variant of {@link #findById(Long)} that selects the response directly, without loading the entity.
+     * The response is cached until the user is updated or deleted; a missing user is not cached.
+     */
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id")
+    @Transactional(readOnly = true)
+    public UserResponseDTO findResponseById(Long id) {
+        sampledLog.info("Looking for user with ID: {}", id);
+        return userRepository.findResponseById(id)
+                .orElseThrow(() -> {
+                    log.warn("User with ID {} not found", id);
+                    return new NotFoundException(String.format("User with ID %d not found", id));
+                });
+    }
+
+    /**
+     * Returns the user's last modification time, used as a cheap validator for conditional requests. Cached and
+     * evicted together with {@link #findResponseById(Long)}, so the ETag always matches the cached body.
+     */
+    @Cacheable(cacheNames = CacheConfig.USER_VERSIONS, key = "#id", unless = "#result == null")
     @Transactional(readOnly = true)
-    public List<User> findAll() {
-        log.info("Retrieving all users");
-        return userRepository.findAll();
+    public Optional<Instant> findVersion(Long id) {
+        return userRepository.findUpdatedAtById(id);
     }
 
+    @Transactional(readOnly = true)
+    public List<UserResponseDTO> findAllResponses() {
+        sampledLog.info("Retrieving all users");
+        return userRepository.findAllResponses();
+    }
+
+    /**
+     * Returns up to {@code limit} users ordered by ID, starting right after {@code afterId}
+     * (or from the beginning when it is {@code null}).
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponseDTO> findPage(Long afterId, int limit) {
+        sampledLog.info("Retrieving users after ID {} with limit {}", afterId, limit);
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<UserResponseDTO> users = afterId == null
+                ? userRepository.findResponsePage(fetchLimit)
+                : userRepository.findResponsePageAfter(afterId, fetchLimit);
+        return CursorPage.of(users, limit, user -> Cursors.encode(String.valueOf(user.getId())));
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_VERSIONS, key = "#id")
+    })
     @Transactional
     public void deleteUser(Long id) {
         if (!userRepository.existsById(id)) {
@@ -69,10 +196,14 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
-        log.info("Searching for user with email: {}", email);
+        sampledLog.info("Searching for user with email: {}", email);
         return userRepository.findByEmail(email);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USER_VERSIONS, key = "#id")
+    })
     @Transactional
     public User updateUser(Long id, UserUpdateRequestDTO dto) {
         log.info("Updating user with ID: {}", id);
@@ -83,19 +214,31 @@ public class UserService {
                     return new NotFoundException(String.format("User with ID %d not found", id));
                 });
 
-        if (!user.getEmail().equals(dto.getEmail())) {
-            userRepository.findByEmail(dto.getEmail())
-                    .ifPresent(u -> {
-                        log.warn("Email {} is already registered to another user", dto.getEmail());
-                        throw new IllegalArgumentException("Email has already been registered");
-                    });
-        }
-
         user.setName(dto.getName());
         user.setEmail(dto.getEmail());
 
-        User updatedUser = userRepository.save(user);
+        User updatedUser;
+        try {
+            updatedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw emailTaken(ex, dto.getEmail());
+        }
         log.info("User with ID: {} updated successfully", updatedUser.getId());
         return updatedUser;
     }
+
+    /**
+     * Maps a violation of the unique email index to the 409 response; any other violation is rethrown as is.
+     */
+    private static RuntimeException emailTaken(DataIntegrityViolationException ex, String email) {
+        if (!ConstraintViolations.isUniqueViolation(ex)) {
+            return ex;
+        }
+        log.warn("Email {} is already registered", email);
+        return new IllegalArgumentException("Email has already been registered");
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
 }
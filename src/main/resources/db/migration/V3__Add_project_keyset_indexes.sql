@@ -0,0 +1,7 @@
+-- V3__Add_project_keyset_indexes.sql
+-- Composite indexes backing the keyset-paginated project listing, one per supported ordering.
+CREATE INDEX idx_project_user_created_at ON tb_user_external_project(user_id, created_at, id);
+CREATE INDEX idx_project_user_name ON tb_user_external_project(user_id, name, id);
+
+-- Both indexes above lead with user_id, so the single-column index is redundant.
+DROP INDEX idx_project_user_id;
@@ -0,0 +1,4 @@
+-- V4__Pool_user_id_sequence.sql
+-- User IDs are allocated by Hibernate's pooled optimizer in blocks of 50 (allocationSize on User),
+-- so the sequence has to advance by the same step.
+ALTER SEQUENCE tb_user_id_seq INCREMENT BY 50;
@@ -0,0 +1,7 @@
+-- V5__Case_insensitive_unique_email.sql
+-- Emails are unique regardless of case and uniqueness is enforced by this index alone (no pre-check queries).
+-- It replaces the UNIQUE constraint from V1 and the redundant idx_user_email from V2; email lookups compare
+-- lower(email) so they are served by it as well.
+DROP INDEX IF EXISTS idx_user_email;
+ALTER TABLE tb_user DROP CONSTRAINT IF EXISTS tb_user_email_key;
+CREATE UNIQUE INDEX uk_user_email_lower ON tb_user (lower(email));
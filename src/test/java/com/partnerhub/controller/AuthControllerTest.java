@@ -0,0 +1,49 @@
+package com.partnerhub.controller;
+
+import com.partnerhub.dto.TokenResponseDTO;
+import com.partnerhub.service.TokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AuthController.class)
+@AutoConfigureMockMvc(addFilters = false) // disables Spring Security for tests
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TokenService tokenService;
+
+    // ===============================
+    // ISSUE TOKEN TESTS
+    // ===============================
+
+    @Test
+    void issueToken_WhenAuthenticated_ShouldReturnNonCacheableToken() throws Exception {
+        // Given
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+        when(tokenService.issueToken(authentication)).thenReturn(new TokenResponseDTO("signed.jwt.value", "Bearer", 900));
+
+        // When & Then
+        mockMvc.perform(post("/api/auth/token").principal(authentication))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.accessToken").value("signed.jwt.value"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(900));
+
+        verify(tokenService, times(1)).issueToken(authentication);
+    }
+}
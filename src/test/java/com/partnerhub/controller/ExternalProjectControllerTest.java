@@ -1,13 +1,19 @@
 package com.partnerhub.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.partnerhub.dto.ExternalProjectBulkRequestDTO;
+import com.partnerhub.dto.ExternalProjectBulkResponseDTO;
 import com.partnerhub.dto.ExternalProjectRequestDTO;
 import com.partnerhub.dto.ExternalProjectResponseDTO;
 import com.partnerhub.dto.ExternalProjectUpdateRequestDTO;
+import com.partnerhub.dto.ListVersionDTO;
 import com.partnerhub.domain.ExternalProject;
 import com.partnerhub.domain.User;
 import com.partnerhub.exception.NotFoundException;
 import com.partnerhub.mapper.ExternalProjectMapper;
+import com.partnerhub.pagination.CursorPage;
+import com.partnerhub.pagination.Cursors;
+import com.partnerhub.pagination.ProjectSort;
 import com.partnerhub.service.ExternalProjectService;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -145,6 +151,93 @@ class ExternalProjectControllerTest {
                 .andExpect(jsonPath("$.errors").isArray());
     }
 
+    // ===============================
+    // BULK UPSERT TESTS (POST)
+    // ===============================
+
+    @Test
+    void upsertProjects_WhenValidData_ShouldReturnCounts() throws Exception {
+        // Given
+        Long userId = 1L;
+        ExternalProjectRequestDTO alpha = new ExternalProjectRequestDTO();
+        alpha.setId("proj-001");
+        alpha.setName("Project Alpha");
+        ExternalProjectRequestDTO beta = new ExternalProjectRequestDTO();
+        beta.setId("proj-002");
+        beta.setName("Project Beta");
+        ExternalProjectBulkRequestDTO request = new ExternalProjectBulkRequestDTO();
+        request.setProjects(List.of(alpha, beta));
+
+        List<ExternalProject> entities = List.of(new ExternalProject(), new ExternalProject());
+        when(externalProjectMapper.toEntities(anyList())).thenReturn(entities);
+        when(externalProjectService.upsertProjects(userId, entities))
+                .thenReturn(new ExternalProjectBulkResponseDTO(1, 1, 0));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/{userId}/projects/bulk", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.unchanged").value(0));
+
+        verify(externalProjectService, times(1)).upsertProjects(userId, entities);
+    }
+
+    @Test
+    void upsertProjects_WhenItemIsInvalid_ShouldReturn400() throws Exception {
+        // Given
+        ExternalProjectRequestDTO invalid = new ExternalProjectRequestDTO();
+        invalid.setId("proj-001");
+        ExternalProjectBulkRequestDTO request = new ExternalProjectBulkRequestDTO();
+        request.setProjects(List.of(invalid));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/{userId}/projects/bulk", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("projects[0].name"));
+
+        verifyNoInteractions(externalProjectService);
+    }
+
+    @Test
+    void upsertProjects_WhenItemIsNull_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/users/{userId}/projects/bulk", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"projects\":[null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("projects[0]"))
+                .andExpect(jsonPath("$.errors[0].message").value("Project must not be null"));
+
+        verifyNoInteractions(externalProjectService);
+    }
+
+    @Test
+    void upsertProjects_WhenUserNotExists_ShouldReturn404() throws Exception {
+        // Given
+        Long userId = 999L;
+        ExternalProjectRequestDTO project = new ExternalProjectRequestDTO();
+        project.setId("proj-001");
+        project.setName("Project Alpha");
+        ExternalProjectBulkRequestDTO request = new ExternalProjectBulkRequestDTO();
+        request.setProjects(List.of(project));
+
+        when(externalProjectMapper.toEntities(anyList())).thenReturn(List.of(new ExternalProject()));
+        when(externalProjectService.upsertProjects(eq(userId), anyList()))
+                .thenThrow(new NotFoundException("User with ID 999 not found"));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/{userId}/projects/bulk", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("User with ID 999 not found"));
+    }
+
     // ===============================
     // GET PROJECTS TESTS
     // ===============================
@@ -153,17 +246,11 @@ class ExternalProjectControllerTest {
     void getProjectsByUser_WhenUserHasProjects_ShouldReturnProjectList() throws Exception {
         // Given
         Long userId = 2L;
-        User user = createTestUser(userId, "user@test.com", "Test User");
-
-        ExternalProject project1 = createTestProject("proj-001", "Project Alpha", user);
-        ExternalProject project2 = createTestProject("proj-002", "Project Beta", user);
-
         ExternalProjectResponseDTO dto1 = createProjectResponseDTO("proj-001", "Project Alpha");
         ExternalProjectResponseDTO dto2 = createProjectResponseDTO("proj-002", "Project Beta");
 
-        when(externalProjectService.getProjectsByUserId(userId)).thenReturn(List.of(project1, project2));
-        when(externalProjectMapper.toResponse(project1)).thenReturn(dto1);
-        when(externalProjectMapper.toResponse(project2)).thenReturn(dto2);
+        when(externalProjectService.getProjectListVersion(userId)).thenReturn(new ListVersionDTO(2L, Instant.now()));
+        when(externalProjectService.getProjectsByUserId(userId)).thenReturn(List.of(dto1, dto2));
 
         // When & Then
         mockMvc.perform(get("/api/users/{userId}/projects", userId))
@@ -181,6 +268,7 @@ class ExternalProjectControllerTest {
     void getProjectsByUser_WhenUserHasNoProjects_ShouldReturnEmptyList() throws Exception {
         // Given
         Long userId = 3L;
+        when(externalProjectService.getProjectListVersion(userId)).thenReturn(new ListVersionDTO(0L, null));
         when(externalProjectService.getProjectsByUserId(userId)).thenReturn(List.of());
 
         // When & Then
@@ -195,6 +283,7 @@ class ExternalProjectControllerTest {
     void getProjectsByUser_WhenUserNotExists_ShouldReturn404() throws Exception {
         // Given
         Long userId = 999L;
+        when(externalProjectService.getProjectListVersion(userId)).thenReturn(new ListVersionDTO(0L, null));
         when(externalProjectService.getProjectsByUserId(userId))
                 .thenThrow(new NotFoundException("User with ID 999 not found"));
 
@@ -209,6 +298,150 @@ class ExternalProjectControllerTest {
                 .andExpect(jsonPath("$.path").value("/api/users/999/projects"));
     }
 
+    @Test
+    void getProjectsByUser_WhenSortedByNameWithLimit_ShouldReturnPageWithNextLink() throws Exception {
+        // Given
+        Long userId = 2L;
+        ExternalProjectResponseDTO dto1 = createProjectResponseDTO("proj-001", "Project Alpha");
+        String nextCursor = Cursors.encode("name", "Project Alpha", "proj-001");
+
+        when(externalProjectService.getProjectPage(userId, ProjectSort.NAME, null, 1))
+                .thenReturn(new CursorPage<>(List.of(dto1), nextCursor));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{userId}/projects", userId)
+                        .param("sort", "name")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("proj-001"))
+                .andExpect(header().string("X-Next-Cursor", nextCursor))
+                .andExpect(header().string("Link",
+                        "<http://localhost/api/users/2/projects?sort=name&after=" + nextCursor + "&limit=1>; rel=\"next\""))
+                .andExpect(header().exists("ETag"));
+
+        verify(externalProjectService, never()).getProjectsByUserId(any());
+        verify(externalProjectService, never()).getProjectListVersion(any());
+    }
+
+    @Test
+    void getProjectsByUser_WhenPageUnchanged_ShouldReturnNotModifiedWithoutListVersion() throws Exception {
+        // Given
+        Long userId = 2L;
+        ExternalProjectResponseDTO dto1 = createProjectResponseDTO("proj-001", "Project Alpha");
+        when(externalProjectService.getProjectPage(userId, ProjectSort.CREATED_AT, null, 1))
+                .thenReturn(new CursorPage<>(List.of(dto1), null));
+
+        String etag = mockMvc.perform(get("/api/users/{userId}/projects", userId).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{userId}/projects", userId).param("limit", "1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(externalProjectService, never()).getProjectListVersion(any());
+    }
+
+    @Test
+    void getProjectsByUser_WhenPageRowChanged_ShouldReturnNewETag() throws Exception {
+        // Given
+        Long userId = 2L;
+        ExternalProjectResponseDTO dto1 = createProjectResponseDTO("proj-001", "Project Alpha");
+        when(externalProjectService.getProjectPage(userId, ProjectSort.CREATED_AT, null, 1))
+                .thenReturn(new CursorPage<>(List.of(dto1), null));
+        String etag = mockMvc.perform(get("/api/users/{userId}/projects", userId).param("limit", "1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When
+        dto1.setUpdatedAt(dto1.getUpdatedAt().plusSeconds(1));
+
+        // Then
+        mockMvc.perform(get("/api/users/{userId}/projects", userId).param("limit", "1").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("proj-001"));
+    }
+
+    @Test
+    void getProjectsByUser_ShouldReturnETagThatYieldsNotModifiedWithoutLoadingProjects() throws Exception {
+        // Given
+        Long userId = 4L;
+        when(externalProjectService.getProjectListVersion(userId))
+                .thenReturn(new ListVersionDTO(1L, Instant.parse("2024-06-14T12:00:00Z")));
+        when(externalProjectService.getProjectsByUserId(userId))
+                .thenReturn(List.of(createProjectResponseDTO("proj-001", "Project Alpha")));
+
+        String etag = mockMvc.perform(get("/api/users/{userId}/projects", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{userId}/projects", userId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(externalProjectService, times(2)).getProjectListVersion(userId);
+        verify(externalProjectService, times(1)).getProjectsByUserId(userId);
+    }
+
+    @Test
+    void getProjectsByUser_WhenListChanged_ShouldReturnFullResponse() throws Exception {
+        // Given
+        Long userId = 4L;
+        when(externalProjectService.getProjectListVersion(userId))
+                .thenReturn(new ListVersionDTO(2L, Instant.parse("2024-06-15T12:00:00Z")));
+        when(externalProjectService.getProjectsByUserId(userId)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{userId}/projects", userId).header("If-None-Match", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    @Test
+    void getProjectsByUser_WhenSortIsUnsupported_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users/{userId}/projects", 2L).param("sort", "url"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Unsupported sort 'url', expected 'createdAt' or 'name'"));
+
+        verifyNoInteractions(externalProjectService);
+    }
+
+    @Test
+    void getProject_WhenProjectExists_ShouldReturnProject() throws Exception {
+        // Given
+        Long userId = 1L;
+        when(externalProjectService.getProject(userId, "proj-001"))
+                .thenReturn(createProjectResponseDTO("proj-001", "Project Alpha"));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{userId}/projects/{projectId}", userId, "proj-001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("proj-001"))
+                .andExpect(jsonPath("$.name").value("Project Alpha"));
+    }
+
+    @Test
+    void getProject_WhenProjectNotExists_ShouldReturn404() throws Exception {
+        // Given
+        Long userId = 1L;
+        when(externalProjectService.getProject(userId, "missing"))
+                .thenThrow(new NotFoundException("Project with ID missing not found"));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{userId}/projects/{projectId}", userId, "missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Project with ID missing not found"));
+    }
+
     // ===============================
     // UPDATE PROJECT TESTS (PUT)
     // ===============================
@@ -221,13 +454,10 @@ class ExternalProjectControllerTest {
         ExternalProjectUpdateRequestDTO updateDTO = new ExternalProjectUpdateRequestDTO();
         updateDTO.setName("Updated Project Name");
 
-        User user = createTestUser(userId, "user@test.com", "Test User");
-        ExternalProject updatedProject = createTestProject(projectId, "Updated Project Name", user);
         ExternalProjectResponseDTO responseDTO = createProjectResponseDTO(projectId, "Updated Project Name");
 
         when(externalProjectService.updateProject(eq(userId), eq(projectId), any(ExternalProjectUpdateRequestDTO.class)))
-                .thenReturn(updatedProject);
-        when(externalProjectMapper.toResponse(updatedProject)).thenReturn(responseDTO);
+                .thenReturn(responseDTO);
 
         // When & Then
         mockMvc.perform(put("/api/users/{userId}/projects/{projectId}", userId, projectId)
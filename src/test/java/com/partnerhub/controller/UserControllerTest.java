@@ -1,10 +1,15 @@
 package com.partnerhub.controller;
 
+import com.partnerhub.dto.BulkUserRequestDTO;
+import com.partnerhub.dto.BulkUserResultDTO;
 import com.partnerhub.dto.UserRequestDTO;
 import com.partnerhub.dto.UserResponseDTO;
 import com.partnerhub.dto.UserUpdateRequestDTO;
 import com.partnerhub.exception.NotFoundException;
+import com.partnerhub.logging.SamplingPolicy;
 import com.partnerhub.mapper.UserMapper;
+import com.partnerhub.pagination.CursorPage;
+import com.partnerhub.pagination.Cursors;
 import com.partnerhub.service.UserService;
 import com.partnerhub.domain.User;
 import org.junit.jupiter.api.Test;
@@ -12,22 +17,36 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(UserController.class)
 @AutoConfigureMockMvc(addFilters = false) // disables Spring Security for tests
 class UserControllerTest {
 
+    @TestConfiguration
+    static class SamplingConfiguration {
+
+        @Bean
+        SamplingPolicy samplingPolicy() {
+            return SamplingPolicy.off();
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -77,6 +96,60 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.id").value(1L));
     }
 
+    @Test
+    void createUsers_ShouldReportResultPerItemInRequestOrder() throws Exception {
+        // Given
+        UserRequestDTO valid = createValidUserRequestDTO();
+        UserRequestDTO invalid = new UserRequestDTO();
+        invalid.setEmail("not-an-email");
+        invalid.setPassword("short");
+        UserRequestDTO duplicate = createValidUserRequestDTO();
+        duplicate.setEmail("taken@mail.com");
+
+        BulkUserRequestDTO request = new BulkUserRequestDTO();
+        request.setUsers(List.of(valid, invalid, duplicate));
+
+        when(userMapper.toEntity(any(UserRequestDTO.class))).thenReturn(new User());
+        when(userService.createUsers(anyList())).thenReturn(List.of(
+                BulkUserResultDTO.created(7L, valid.getEmail()),
+                BulkUserResultDTO.duplicate("taken@mail.com")));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.duplicates").value(1))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").value(7))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].message").value(containsString("email")))
+                .andExpect(jsonPath("$.results[2].index").value(2))
+                .andExpect(jsonPath("$.results[2].status").value("DUPLICATE"));
+
+        verify(userMapper, times(2)).toEntity(any(UserRequestDTO.class));
+        verify(userService, times(1)).createUsers(anyList());
+    }
+
+    @Test
+    void createUsers_WhenListIsEmpty_ShouldReturn400() throws Exception {
+        // Given
+        BulkUserRequestDTO request = new BulkUserRequestDTO();
+        request.setUsers(List.of());
+
+        // When & Then
+        mockMvc.perform(post("/api/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(userService);
+    }
+
     // ===============================
     // GET USER TESTS
     // ===============================
@@ -85,32 +158,59 @@ class UserControllerTest {
     void getUserById_WhenUserExists_ShouldReturnUser() throws Exception {
         // Given
         long userId = 2L;
-        User entity = new User();
-        entity.setId(userId);
-        entity.setEmail("user@mail.com");
-        entity.setName("User");
-
-        UserResponseDTO responseDTO = new UserResponseDTO();
-        responseDTO.setId(userId);
-        responseDTO.setEmail(entity.getEmail());
-        responseDTO.setName(entity.getName());
+        UserResponseDTO responseDTO = createUserResponseDTO(userId, "user@mail.com", "User");
 
-        when(userService.findById(userId)).thenReturn(entity);
-        when(userMapper.toResponse(entity)).thenReturn(responseDTO);
+        when(userService.findResponseById(userId)).thenReturn(responseDTO);
 
         // When & Then
         mockMvc.perform(get("/api/users/{id}", userId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(userId))
-                .andExpect(jsonPath("$.email").value(entity.getEmail()))
-                .andExpect(jsonPath("$.name").value(entity.getName()));
+                .andExpect(jsonPath("$.email").value("user@mail.com"))
+                .andExpect(jsonPath("$.name").value("User"));
+
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    void getUserById_WhenETagMatches_ShouldReturn304WithoutLoadingUser() throws Exception {
+        // Given
+        long userId = 2L;
+        when(userService.findVersion(userId)).thenReturn(Optional.of(Instant.parse("2024-06-14T12:00:00Z")));
+        when(userService.findResponseById(userId)).thenReturn(createUserResponseDTO(userId, "user@mail.com", "User"));
+
+        String etag = mockMvc.perform(get("/api/users/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{id}", userId).header("If-None-Match", "W/" + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(userService, times(1)).findResponseById(userId);
+    }
+
+    @Test
+    void getUserById_WhenUserChangedSinceETag_ShouldReturnUser() throws Exception {
+        // Given
+        long userId = 2L;
+        when(userService.findVersion(userId)).thenReturn(Optional.of(Instant.parse("2024-06-15T12:00:00Z")));
+        when(userService.findResponseById(userId)).thenReturn(createUserResponseDTO(userId, "user@mail.com", "User"));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{id}", userId).header("If-None-Match", "\"outdated\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(userId));
     }
 
     @Test
     void getUserById_WhenUserNotExists_ShouldReturn404() throws Exception {
         // Given
         long userId = 999L;
-        when(userService.findById(userId)).thenThrow(new NotFoundException("User with ID 999 not found"));
+        when(userService.findResponseById(userId)).thenThrow(new NotFoundException("User with ID 999 not found"));
 
         // When & Then
         mockMvc.perform(get("/api/users/{id}", userId))
@@ -126,18 +226,6 @@ class UserControllerTest {
     @Test
     void getAllUsers_WhenUsersExist_ShouldReturnUserList() throws Exception {
         // Given
-        User user1 = new User();
-        user1.setId(1L);
-        user1.setEmail("a@b.com");
-        user1.setName("User A");
-
-        User user2 = new User();
-        user2.setId(2L);
-        user2.setEmail("b@c.com");
-        user2.setName("User B");
-
-        when(userService.findAll()).thenReturn(List.of(user1, user2));
-
         UserResponseDTO dto1 = new UserResponseDTO();
         dto1.setId(1L);
         dto1.setEmail("a@b.com");
@@ -148,8 +236,7 @@ class UserControllerTest {
         dto2.setEmail("b@c.com");
         dto2.setName("User B");
 
-        when(userMapper.toResponse(user1)).thenReturn(dto1);
-        when(userMapper.toResponse(user2)).thenReturn(dto2);
+        when(userService.findAllResponses()).thenReturn(List.of(dto1, dto2));
 
         // When & Then
         mockMvc.perform(get("/api/users"))
@@ -162,6 +249,65 @@ class UserControllerTest {
                 .andExpect(jsonPath("$[1].email").value("b@c.com"));
     }
 
+    @Test
+    void getAllUsers_WhenLimitGiven_ShouldReturnPageWithNextLink() throws Exception {
+        // Given
+        UserResponseDTO dto1 = createUserResponseDTO(1L, "a@b.com", "User A");
+        UserResponseDTO dto2 = createUserResponseDTO(2L, "b@c.com", "User B");
+        String nextCursor = Cursors.encode("2");
+
+        when(userService.findPage(null, 2)).thenReturn(new CursorPage<>(List.of(dto1, dto2), nextCursor));
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(2L))
+                .andExpect(header().string("X-Next-Cursor", nextCursor))
+                .andExpect(header().string("Link",
+                        "<http://localhost/api/users?after=" + nextCursor + "&limit=2>; rel=\"next\""));
+
+        verify(userService, never()).findAllResponses();
+    }
+
+    @Test
+    void getAllUsers_WhenAfterGivenAndLastPage_ShouldResolveCursorAndOmitNextLink() throws Exception {
+        // Given
+        UserResponseDTO dto3 = createUserResponseDTO(3L, "c@d.com", "User C");
+
+        when(userService.findPage(2L, 20)).thenReturn(new CursorPage<>(List.of(dto3), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("after", Cursors.encode("2")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(3L))
+                .andExpect(header().doesNotExist("Link"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void getAllUsers_WhenCursorIsInvalid_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users").param("after", "not-a-cursor!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Invalid pagination cursor"));
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void getAllUsers_WhenLimitIsNotPositive_ShouldReturn400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Limit must be a positive number"));
+
+        verifyNoInteractions(userService);
+    }
+
     // ===============================
     // UPDATE USER TESTS
     // ===============================
@@ -0,0 +1,95 @@
+package com.partnerhub.diagnostics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MethodLatencyAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleRepositoryImpl());
+        proxyFactory.addAspect(new MethodLatencyAspect(
+                meterRegistry, List.of(Duration.ofMillis(100), Duration.ofMillis(500)), Duration.ofSeconds(10)));
+        repository = proxyFactory.getProxy();
+    }
+
+    // ===============================
+    // Successful calls
+    // ===============================
+
+    @Test
+    void time_ShouldRecordSuccessPerRepositoryMethod() {
+        // When
+        repository.call(() -> "first");
+        repository.call(() -> "second");
+
+        // Then
+        Timer timer = meterRegistry.get(MethodLatencyAspect.METRIC)
+                .tags("layer", "repository", "class", "SampleRepository", "method", "call",
+                        "outcome", "success", "exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void time_ShouldPublishServiceLevelObjectiveBuckets() {
+        // When
+        repository.call(() -> "fast");
+
+        // Then
+        Timer timer = meterRegistry.get(MethodLatencyAspect.METRIC).timer();
+        assertThat(timer.takeSnapshot().histogramCounts())
+                .extracting(bucket -> bucket.bucket(TimeUnit.MILLISECONDS))
+                .contains(100.0, 500.0);
+        assertThat(timer.takeSnapshot().histogramCounts())
+                .filteredOn(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) == 100.0)
+                .extracting(CountAtBucket::count)
+                .containsExactly(1.0);
+    }
+
+    // ===============================
+    // Failed calls
+    // ===============================
+
+    @Test
+    void time_WhenMethodThrows_ShouldRecordErrorWithExceptionAndRethrow() {
+        // When & Then
+        assertThatThrownBy(() -> repository.call(() -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(MethodLatencyAspect.METRIC)
+                .tags("outcome", "error", "exception", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(MethodLatencyAspect.METRIC).tags("outcome", "success").timer()).isNull();
+    }
+
+    interface SampleRepository extends Repository<Object, Long> {
+
+        String call(Supplier<String> work);
+    }
+
+    static class SampleRepositoryImpl implements SampleRepository {
+
+        @Override
+        public String call(Supplier<String> work) {
+            return work.get();
+        }
+    }
+}
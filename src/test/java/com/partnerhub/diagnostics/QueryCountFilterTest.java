@@ -0,0 +1,124 @@
+package com.partnerhub.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class QueryCountFilterTest {
+
+    private final QueryCountListener listener = new QueryCountListener();
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        QueryCountProperties.Rule bulk = new QueryCountProperties.Rule();
+        bulk.setPattern("/api/users/bulk");
+        bulk.setMethods(List.of("POST"));
+        bulk.setWarnThreshold(50);
+
+        QueryCountProperties properties = new QueryCountProperties();
+        properties.setWarnThreshold(3);
+        properties.setRules(List.of(bulk));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new QueryCountFilter(properties, meterRegistry);
+    }
+
+    // ===============================
+    // Per-request counters
+    // ===============================
+
+    @Test
+    void doFilter_ShouldRecordStatementsEntitiesAndFlushesPerEndpoint() throws Exception {
+        // When
+        send("GET", "/api/users/1", "/api/users/{id}", (request, response) -> {
+            listener.inspect("select * from tb_user where id=?");
+            listener.onPostLoad(null);
+            listener.onFlush(null);
+        });
+
+        // Then
+        assertThat(meterRegistry.get("request.sql.statements").tags("method", "GET", "uri", "/api/users/{id}")
+                .summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("request.entities.loaded").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("request.flushes").summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_ShouldExposeRunningTotalsInMdcAndClearThemAfterwards() throws Exception {
+        // Given
+        AtomicReference<String> statementsDuringRequest = new AtomicReference<>();
+
+        // When
+        send("GET", "/api/users/1", "/api/users/{id}", (request, response) -> {
+            listener.inspect("select 1");
+            listener.inspect("select 2");
+            statementsDuringRequest.set(MDC.get(RequestQueryStats.STATEMENTS_MDC_KEY));
+        });
+
+        // Then
+        assertThat(statementsDuringRequest.get()).isEqualTo("2");
+        assertThat(MDC.get(RequestQueryStats.STATEMENTS_MDC_KEY)).isNull();
+        assertThat(RequestQueryStats.current()).isNull();
+    }
+
+    @Test
+    void inspect_OutsideRequest_ShouldReturnSqlUnchangedWithoutCounting() {
+        // When
+        String sql = listener.inspect("select 1");
+
+        // Then
+        assertThat(sql).isEqualTo("select 1");
+        assertThat(MDC.get(RequestQueryStats.STATEMENTS_MDC_KEY)).isNull();
+    }
+
+    // ===============================
+    // Warning thresholds
+    // ===============================
+
+    @Test
+    void doFilter_WhenStatementsExceedDefaultThreshold_ShouldCountWarning() throws Exception {
+        // When
+        send("GET", "/api/users/1/projects", "/api/users/{userId}/projects", statements(4));
+
+        // Then
+        assertThat(meterRegistry.get("request.sql.threshold.exceeded")
+                .tags("method", "GET", "uri", "/api/users/{userId}/projects").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_WhenRuleMatches_ShouldUseItsThreshold() throws Exception {
+        // When
+        send("POST", "/api/users/bulk", "/api/users/bulk", statements(40));
+
+        // Then
+        assertThat(meterRegistry.get("request.sql.threshold.exceeded").counter().count()).isZero();
+        assertThat(meterRegistry.get("request.sql.statements").summary().max()).isEqualTo(40);
+    }
+
+    private FilterChain statements(int count) {
+        return (request, response) -> {
+            for (int i = 0; i < count; i++) {
+                listener.inspect("select " + i);
+            }
+        };
+    }
+
+    private void send(String method, String path, String pattern, FilterChain work) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, resp) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            work.doFilter(req, resp);
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.partnerhub.diagnostics;
+
+import com.partnerhub.dto.VirtualThreadReportDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VirtualThreadMonitorTest {
+
+    private static final List<String> HIKARI_STACK = List.of(
+            "jdk.internal.misc.Unsafe.park:-1",
+            "java.util.concurrent.locks.LockSupport.parkNanos:269",
+            "com.zaxxer.hikari.util.ConcurrentBag.borrow:150",
+            "com.zaxxer.hikari.pool.HikariPool.getConnection:181");
+
+    private static final List<String> PGJDBC_STACK = List.of(
+            "java.lang.Object.wait0:-2",
+            "org.postgresql.core.v3.QueryExecutorImpl.execute:355",
+            "org.postgresql.jdbc.PgStatement.executeInternal:497");
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadMonitor(Duration.ofMillis(20), 2, 32, meterRegistry);
+    }
+
+    @Test
+    void recordPinned_ShouldAggregatePerFirstNonJdkFrame() {
+        // When
+        monitor.recordPinned(HIKARI_STACK, Duration.ofMillis(30));
+        monitor.recordPinned(HIKARI_STACK, Duration.ofMillis(50));
+        monitor.recordPinned(PGJDBC_STACK, Duration.ofMillis(25));
+
+        // Then
+        List<VirtualThreadReportDTO.PinnedLocation> pinned = monitor.report().getPinned();
+        assertThat(pinned).extracting(VirtualThreadReportDTO.PinnedLocation::getLocation)
+                .containsExactly("com.zaxxer.hikari.util.ConcurrentBag.borrow:150",
+                        "org.postgresql.core.v3.QueryExecutorImpl.execute:355");
+        assertThat(pinned.getFirst().getCount()).isEqualTo(2);
+        assertThat(pinned.getFirst().getTotalMillis()).isEqualTo(80.0);
+        assertThat(pinned.getFirst().getMaxMillis()).isEqualTo(50.0);
+        assertThat(pinned.getFirst().getLastStackTrace()).isEqualTo(HIKARI_STACK);
+        assertThat(meterRegistry.get("jvm.threads.virtual.pinned")
+                .tag("location", "com.zaxxer.hikari.util.ConcurrentBag.borrow:150").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void recordPinned_WhenLocationLimitReached_ShouldReportAsOther() {
+        // Given
+        monitor.recordPinned(HIKARI_STACK, Duration.ofMillis(30));
+        monitor.recordPinned(PGJDBC_STACK, Duration.ofMillis(30));
+
+        // When
+        monitor.recordPinned(List.of("org.hibernate.internal.SessionImpl.flush:1404"), Duration.ofMillis(30));
+
+        // Then
+        assertThat(monitor.report().getPinned()).extracting(VirtualThreadReportDTO.PinnedLocation::getLocation)
+                .contains(VirtualThreadMonitor.OTHER_LOCATION)
+                .doesNotContain("org.hibernate.internal.SessionImpl.flush:1404");
+    }
+
+    @Test
+    void reset_ShouldClearAggregatedLocations() {
+        // Given
+        monitor.recordPinned(HIKARI_STACK, Duration.ofMillis(30));
+
+        // When
+        monitor.reset();
+
+        // Then
+        assertThat(monitor.report().getPinned()).isEmpty();
+    }
+
+    @Test
+    void recordSubmitFailed_ShouldCountAndKeepStackTrace() {
+        // When
+        monitor.recordSubmitFailed(PGJDBC_STACK);
+
+        // Then
+        VirtualThreadReportDTO report = monitor.report();
+        assertThat(report.getSubmitFailedCount()).isEqualTo(1);
+        assertThat(report.getLastSubmitFailedStackTrace()).isEqualTo(PGJDBC_STACK);
+        assertThat(meterRegistry.get("jvm.threads.virtual.submit.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void locationOf_WhenOnlyJdkFrames_ShouldUseTopFrame() {
+        assertThat(VirtualThreadMonitor.locationOf(List.of("java.lang.Object.wait0:-2"))).isEqualTo("java.lang.Object.wait0:-2");
+        assertThat(VirtualThreadMonitor.locationOf(List.of())).isEqualTo("unknown");
+    }
+
+    @Test
+    void report_ShouldCountCarriersOnDemandWithoutRegisteringGauges() throws Exception {
+        // Given
+        Thread.ofVirtual().start(() -> { }).join();
+
+        // When
+        VirtualThreadReportDTO.CarrierPool carriers = monitor.report().getCarriers();
+
+        // Then
+        assertThat(carriers.getPoolSize()).isPositive();
+        assertThat(carriers.getBusy()).isBetween(0, carriers.getPoolSize());
+        assertThat(meterRegistry.find("jvm.threads.virtual.carriers").gauges()).isEmpty();
+    }
+}
@@ -1,18 +1,36 @@
 package com.partnerhub.integration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.partnerhub.domain.ExternalProject;
+import com.partnerhub.domain.ExternalProjectId;
 import com.partnerhub.domain.User;
+import com.partnerhub.dto.ExternalProjectResponseDTO;
+import com.partnerhub.exception.ConstraintViolations;
 import com.partnerhub.repository.ExternalProjectRepository;
 import com.partnerhub.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
 class AllIntegrationTest extends PostgresTestContainer {
 
     @Autowired
@@ -21,6 +39,12 @@ class AllIntegrationTest extends PostgresTestContainer {
     @Autowired
     private ExternalProjectRepository projectRepository;
 
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void shouldSaveAndRetrieveUser() {
         User user = new User();
@@ -56,5 +80,174 @@ class AllIntegrationTest extends PostgresTestContainer {
         assertThat(projects.get(0).getName()).isEqualTo("Project 1");
     }
 
-}
+    @Test
+    void shouldRejectEmailDifferingOnlyInCase() {
+        User user = new User();
+        user.setEmail("case@d.com");
+        user.setPassword("password");
+        user.setName("TestContainerUser3");
+        userRepository.saveAndFlush(user);
+
+        User sameEmail = new User();
+        sameEmail.setEmail("Case@D.com");
+        sameEmail.setPassword("password");
+        sameEmail.setName("TestContainerUser4");
+
+        assertThatThrownBy(() -> userRepository.saveAndFlush(sameEmail))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(ex -> assertThat(ConstraintViolations.isUniqueViolation((DataIntegrityViolationException) ex)).isTrue());
+        assertThat(userRepository.findByEmail("CASE@d.com")).map(User::getName).contains("TestContainerUser3");
+    }
+
+    @Test
+    void shouldUpsertNewChangedAndIdenticalProjectsInOneStatement() throws Exception {
+        User user = createUser("bulk@d.com");
+        mockMvc.perform(post("/api/users/{userId}/projects/bulk", user.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"projects":[{"id":"bulk-1","name":"Alpha"},{"id":"bulk-2","name":"Beta"}]}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(2));
+
+        mockMvc.perform(post("/api/users/{userId}/projects/bulk", user.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"projects":[
+                                  {"id":"bulk-1","name":"Alpha"},
+                                  {"id":"bulk-2","name":"Beta renamed"},
+                                  {"id":"bulk-3","name":"Gamma"}
+                                ]}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.unchanged").value(1));
+
+        assertThat(projectRepository.findResponsesByUserId(user.getId()))
+                .extracting(ExternalProjectResponseDTO::getId, ExternalProjectResponseDTO::getName)
+                .containsExactlyInAnyOrder(
+                        tuple("bulk-1", "Alpha"),
+                        tuple("bulk-2", "Beta renamed"),
+                        tuple("bulk-3", "Gamma"));
+    }
+
+    @Test
+    void shouldReturn404WhenUpsertingProjectsForUnknownUser() throws Exception {
+        mockMvc.perform(post("/api/users/{userId}/projects/bulk", Long.MAX_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"projects":[{"id":"bulk-1","name":"Alpha"}]}"""))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("User with ID " + Long.MAX_VALUE + " not found"));
+    }
+
+    @Test
+    void shouldReturn409WhenAddingDuplicateProject() throws Exception {
+        User user = createUser("duplicate@d.com");
+        addProject(user.getId(), "dup-1", "Original")
+                .andExpect(status().isCreated());
+
+        addProject(user.getId(), "dup-1", "Duplicate")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message")
+                        .value("Project with ID dup-1 already exists for user with ID " + user.getId()));
+
+        assertThat(projectRepository.findResponseByUserIdAndId(user.getId(), "dup-1"))
+                .map(ExternalProjectResponseDTO::getName)
+                .contains("Original");
+    }
 
+    @Test
+    void shouldReturn404WhenAddingProjectForUnknownUser() throws Exception {
+        addProject(Long.MAX_VALUE, "orphan-1", "Orphan")
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("User with ID " + Long.MAX_VALUE + " not found"));
+    }
+
+    @Test
+    void shouldReturn404WhenRenamingMissingProject() throws Exception {
+        User user = createUser("rename-missing@d.com");
+
+        mockMvc.perform(put("/api/users/{userId}/projects/{projectId}", user.getId(), "missing-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Project with ID missing-1 not found"));
+    }
+
+    @Test
+    void shouldRenameProjectAndReturnNewUpdatedAt() throws Exception {
+        User user = createUser("rename@d.com");
+        addProject(user.getId(), "rename-1", "Before").andExpect(status().isCreated());
+        Instant before = projectRepository.findResponseByUserIdAndId(user.getId(), "rename-1")
+                .map(ExternalProjectResponseDTO::getUpdatedAt)
+                .orElseThrow();
+
+        String body = mockMvc.perform(put("/api/users/{userId}/projects/{projectId}", user.getId(), "rename-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"After\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("rename-1"))
+                .andExpect(jsonPath("$.name").value("After"))
+                .andReturn().getResponse().getContentAsString();
+        ExternalProjectResponseDTO renamed = objectMapper.readValue(body, ExternalProjectResponseDTO.class);
+
+        ExternalProjectResponseDTO stored = projectRepository.findResponseByUserIdAndId(user.getId(), "rename-1")
+                .orElseThrow();
+        assertThat(stored.getName()).isEqualTo("After");
+        assertThat(renamed.getUpdatedAt()).isEqualTo(stored.getUpdatedAt()).isNotEqualTo(before);
+    }
+
+    @Test
+    void shouldScopeProjectIdsByOwningUser() throws Exception {
+        User alice = createUser("alice-p1@d.com");
+        User bob = createUser("bob-p1@d.com");
+        addProject(alice.getId(), "p1", "Alice's project").andExpect(status().isCreated());
+        addProject(bob.getId(), "p1", "Bob's project").andExpect(status().isCreated());
+
+        // Each user reads their own copy, by primary key and through the per-user listing
+        mockMvc.perform(get("/api/users/{userId}/projects/{projectId}", alice.getId(), "p1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Alice's project"));
+        mockMvc.perform(get("/api/users/{userId}/projects/{projectId}", bob.getId(), "p1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Bob's project"));
+        assertThat(projectRepository.findByUserId(alice.getId()))
+                .extracting(ExternalProject::getName)
+                .containsExactly("Alice's project");
+
+        // Renaming one copy leaves the other untouched
+        mockMvc.perform(put("/api/users/{userId}/projects/{projectId}", alice.getId(), "p1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Alice renamed\"}"))
+                .andExpect(status().isOk());
+        assertThat(projectRepository.findResponseByUserIdAndId(alice.getId(), "p1"))
+                .map(ExternalProjectResponseDTO::getName).contains("Alice renamed");
+        assertThat(projectRepository.findResponseByUserIdAndId(bob.getId(), "p1"))
+                .map(ExternalProjectResponseDTO::getName).contains("Bob's project");
+
+        // Deleting by the composite key removes only that user's copy
+        projectRepository.deleteById(new ExternalProjectId("p1", alice.getId()));
+        assertThat(projectRepository.findById(new ExternalProjectId("p1", alice.getId()))).isEmpty();
+        assertThat(projectRepository.findById(new ExternalProjectId("p1", bob.getId())))
+                .map(ExternalProject::getName).contains("Bob's project");
+        mockMvc.perform(get("/api/users/{userId}/projects/{projectId}", alice.getId(), "p1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message")
+                        .value("Project with ID p1 does not belong to user with ID " + alice.getId()));
+    }
+
+    private ResultActions addProject(Long userId, String projectId, String name)
+            throws Exception {
+        return mockMvc.perform(post("/api/users/{userId}/projects", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\":\"" + projectId + "\",\"name\":\"" + name + "\"}"));
+    }
+
+    private User createUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setName("TestContainerUser " + email);
+        return userRepository.saveAndFlush(user);
+    }
+}
@@ -0,0 +1,122 @@
+package com.partnerhub.integration;
+
+import com.partnerhub.domain.User;
+import com.partnerhub.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that connections and database bulkhead permits line up: every connection a request borrows from the
+ * pool is taken and returned while the request holds a permit, even when the request makes several database
+ * calls. With open session in view a connection would stay checked out between the calls and until the
+ * response is written, after the permit had been released.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class ConnectionHoldIntegrationTest extends PostgresTestContainer {
+
+    /**
+     * Free bulkhead permits seen each time a connection was borrowed or returned.
+     */
+    private static final List<ConnectionEvent> EVENTS = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class PermitRecordingConfiguration {
+
+        @Bean
+        static BeanPostProcessor permitRecordingDataSource(ObjectProvider<MeterRegistry> meterRegistry) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            EVENTS.add(new ConnectionEvent("borrow", availablePermits(meterRegistry)));
+                            return recordClose(super.getConnection(), meterRegistry);
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection recordClose(Connection connection, ObjectProvider<MeterRegistry> meterRegistry) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("close")) {
+                            EVENTS.add(new ConnectionEvent("return", availablePermits(meterRegistry)));
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getCause();
+                        }
+                    });
+        }
+
+        private static double availablePermits(ObjectProvider<MeterRegistry> meterRegistry) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            return registry == null || registry.find("db.bulkhead.available").gauge() == null
+                    ? Double.NaN
+                    : registry.get("db.bulkhead.available").gauge().value();
+        }
+    }
+
+    private record ConnectionEvent(String type, double availablePermits) {
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getUserById_ShouldHoldEachConnectionOnlyWhileHoldingAPermit() throws Exception {
+        // Given
+        User user = new User();
+        user.setEmail("osiv@d.com");
+        user.setPassword("password");
+        user.setName("Osiv");
+        Long id = userRepository.saveAndFlush(user).getId();
+        double idlePermits = meterRegistry.get("db.bulkhead.available").gauge().value();
+        EVENTS.clear();
+
+        // When: the endpoint reads the version, then the body, in two separate database calls
+        mockMvc.perform(get("/api/users/{id}", id))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(EVENTS).extracting(ConnectionEvent::type).containsExactly("borrow", "return", "borrow", "return");
+        assertThat(EVENTS).allSatisfy(event -> assertThat(event.availablePermits()).isLessThan(idlePermits));
+        assertThat(meterRegistry.get("db.bulkhead.available").gauge().value()).isEqualTo(idlePermits);
+    }
+}
@@ -0,0 +1,58 @@
+package com.partnerhub.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that HTTP Basic logins are shed with {@code 503} and {@code Retry-After}, through the full filter chain,
+ * while every password hashing thread is busy and the queue is full.
+ */
+@SpringBootTest(properties = {
+        "spring.security.user.name=admin",
+        "spring.security.user.password=admin",
+        "security.password.hashing-threads=1",
+        "security.password.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+class PasswordHashingSaturationIntegrationTest extends PostgresTestContainer {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ThreadPoolExecutor passwordHashingExecutor;
+
+    @Test
+    void issueToken_WhenHashingPoolIsSaturated_ShouldAnswer503WithRetryAfter() throws Exception {
+        // Given: one task on the only hashing thread, one in the queue
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            passwordHashingExecutor.submit(() -> {
+                release.await();
+                return null;
+            });
+        }
+
+        try {
+            // When & Then
+            mockMvc.perform(post("/api/auth/token").with(httpBasic("admin", "admin")))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.message").value("Server is busy, please retry later"));
+        } finally {
+            release.countDown();
+        }
+    }
+}
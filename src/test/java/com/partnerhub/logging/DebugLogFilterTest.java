@@ -0,0 +1,66 @@
+package com.partnerhub.logging;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DebugLogFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    // ===============================
+    // X-Debug-Log header
+    // ===============================
+
+    @Test
+    void doFilter_WhenHeaderDisabled_ShouldKeepSampling() throws Exception {
+        // When
+        String debugFlag = send(new DebugLogFilter(false), "true");
+
+        // Then
+        assertThat(debugFlag).isNull();
+    }
+
+    @Test
+    void doFilter_WhenHeaderEnabled_ShouldFlagRequestForFullLogging() throws Exception {
+        // When
+        String debugFlag = send(new DebugLogFilter(true), "true");
+
+        // Then
+        assertThat(debugFlag).isEqualTo("true");
+        assertThat(MDC.get(SampledLogger.DEBUG_MDC_KEY)).isNull();
+    }
+
+    @Test
+    void doFilter_WhenHeaderMissing_ShouldKeepSampling() throws Exception {
+        // When
+        String debugFlag = send(new DebugLogFilter(true), null);
+
+        // Then
+        assertThat(debugFlag).isNull();
+    }
+
+    /**
+     * Returns the debug MDC flag as seen by the rest of the filter chain.
+     */
+    private static String send(DebugLogFilter filter, String headerValue) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+        if (headerValue != null) {
+            request.addHeader(DebugLogFilter.DEBUG_LOG_HEADER, headerValue);
+        }
+        AtomicReference<String> seen = new AtomicReference<>();
+        FilterChain chain = (req, res) -> seen.set(MDC.get(SampledLogger.DEBUG_MDC_KEY));
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return seen.get();
+    }
+}
@@ -0,0 +1,160 @@
+package com.partnerhub.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SampledLoggerTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger("sampled-logger-test");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        MDC.clear();
+    }
+
+    @Test
+    void info_WhenOneInN_ShouldLogEveryNthLineWithSuppressedCount() {
+        // Given
+        SampledLogger sampledLogger = sampled(SamplingPolicy.oneIn(3));
+
+        // When
+        for (int i = 0; i < 7; i++) {
+            sampledLogger.info("Looking for user with ID: {}", i);
+        }
+
+        // Then
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("Looking for user with ID: 0", "Looking for user with ID: 3", "Looking for user with ID: 6");
+        assertThat(appender.list.get(1).getKeyValuePairs()).singleElement()
+                .satisfies(pair -> {
+                    assertThat(pair.key).isEqualTo("suppressed");
+                    assertThat(pair.value).isEqualTo(2L);
+                });
+    }
+
+    @Test
+    void info_WhenPerSecond_ShouldLimitEachSecond() {
+        // Given
+        SampledLogger sampledLogger = sampled(SamplingPolicy.perSecond(2));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            sampledLogger.info("Retrieving all users");
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        sampledLogger.info("Retrieving all users");
+
+        // Then
+        assertThat(appender.list).hasSize(3);
+    }
+
+    @Test
+    void info_ShouldSampleEachCallSiteSeparately() {
+        // Given
+        SampledLogger sampledLogger = sampled(SamplingPolicy.perSecond(1));
+
+        // When
+        sampledLogger.info("Retrieving all users");
+        sampledLogger.info("Retrieving all users");
+        sampledLogger.info("Fetching external projects for user ID {}", 1);
+
+        // Then
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("Retrieving all users", "Fetching external projects for user ID 1");
+    }
+
+    @Test
+    void info_WhenDebugFlagSet_ShouldLogEveryLine() {
+        // Given
+        SampledLogger sampledLogger = sampled(SamplingPolicy.perSecond(1));
+        MDC.put(SampledLogger.DEBUG_MDC_KEY, "true");
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            sampledLogger.info("Retrieving all users");
+        }
+
+        // Then
+        assertThat(appender.list).hasSize(4);
+    }
+
+    @Test
+    void debug_WhenLevelDisabled_ShouldNotLog() {
+        // Given
+        SampledLogger sampledLogger = sampled(SamplingPolicy.off());
+
+        // When
+        sampledLogger.debug("Retrieving all users");
+
+        // Then
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void info_WhenThreadsCrossSecondTogether_ShouldOpenEachWindowOnce() throws Exception {
+        // Given
+        int threads = 8;
+        int seconds = 50;
+        SampledLogger sampledLogger = sampled(SamplingPolicy.perSecond(2));
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        // When: every thread logs at the start of each new second at the same time
+        try {
+            for (int second = 1; second <= seconds; second++) {
+                clock.set(TimeUnit.SECONDS.toNanos(second));
+                CyclicBarrier start = new CyclicBarrier(threads);
+                List<Future<?>> calls = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    calls.add(pool.submit(() -> {
+                        start.await();
+                        sampledLogger.info("Retrieving all users");
+                        return null;
+                    }));
+                }
+                for (Future<?> call : calls) {
+                    call.get(10, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Then
+        assertThat(appender.list).hasSize(2 * seconds);
+    }
+
+    private SampledLogger sampled(SamplingPolicy policy) {
+        return new SampledLogger(logger, policy, clock::get);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,6 +32,21 @@ public class ExternalProjectMapperTest {
         assertThat(entity.getUpdatedAt()).isNull();
     }
 
+    @Test
+    void testToEntities() {
+        ExternalProjectRequestDTO first = new ExternalProjectRequestDTO();
+        first.setId("proj-1");
+        first.setName("First");
+        ExternalProjectRequestDTO second = new ExternalProjectRequestDTO();
+        second.setId("proj-2");
+        second.setName("Second");
+
+        List<ExternalProject> entities = mapper.toEntities(List.of(first, second));
+
+        assertThat(entities).extracting(ExternalProject::getId).containsExactly("proj-1", "proj-2");
+        assertThat(entities).extracting(ExternalProject::getName).containsExactly("First", "Second");
+    }
+
     @Test
     void testToResponse() {
         ExternalProject entity = new ExternalProject();
@@ -0,0 +1,133 @@
+package com.partnerhub.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(properties(4, 2, 6), clock::get);
+    }
+
+    @Test
+    void tryAcquire_WhenLimitReached_ShouldShed() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isNotNull();
+        }
+
+        // When & Then
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void release_WhenRequestIsSlow_ShouldDecreaseLimitDownToMinimum() {
+        // Given
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // When
+        first.release(false);
+        second.release(false);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void release_WhenConcurrentRequestsAreAllSlow_ShouldBackOffOncePerGeneration() {
+        // Given
+        limiter = new AdaptiveConcurrencyLimiter(properties(8, 1, 8), clock::get);
+        AdaptiveConcurrencyLimiter.Permit[] burst = new AdaptiveConcurrencyLimiter.Permit[6];
+        for (int i = 0; i < burst.length; i++) {
+            burst[i] = limiter.tryAcquire();
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // When
+        for (AdaptiveConcurrencyLimiter.Permit permit : burst) {
+            permit.release(false);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        // And a request admitted after the decrease may back off again
+        AdaptiveConcurrencyLimiter.Permit next = limiter.tryAcquire();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        next.release(false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_WhenRouteHasNoLatencyThreshold_ShouldNotDecreaseLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(0);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // When
+        permit.release(false);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void release_WhenOverloaded_ShouldDecreaseLimit() {
+        // When
+        limiter.tryAcquire().release(true);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_WhenFastUnderLoad_ShouldIncreaseLimitUpToMaximum() {
+        // Given
+        for (int round = 0; round < 5; round++) {
+            AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+            AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire();
+            AdaptiveConcurrencyLimiter.Permit third = limiter.tryAcquire();
+
+            // When
+            third.release(false);
+            second.release(false);
+            first.release(false);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    @Test
+    void release_WhenFastButIdle_ShouldKeepLimit() {
+        // When
+        limiter.tryAcquire().release(false);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    private static ConcurrencyLimitProperties properties(int initialLimit, int minLimit, int maxLimit) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(minLimit);
+        properties.setMaxLimit(maxLimit);
+        properties.setLatencyThreshold(Duration.ofMillis(100));
+        properties.setBackoffRatio(0.5);
+        return properties;
+    }
+}
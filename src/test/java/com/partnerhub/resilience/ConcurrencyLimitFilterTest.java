@@ -0,0 +1,81 @@
+package com.partnerhub.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties.Rule bulk = new ConcurrencyLimitProperties.Rule();
+        bulk.setPattern("/api/users/bulk");
+        bulk.setMethods(List.of("POST"));
+        bulk.setLatencyThreshold(Duration.ZERO);
+
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(8);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(8);
+        properties.setLatencyThreshold(Duration.ofMillis(100));
+        properties.setBackoffRatio(0.5);
+        properties.setRules(List.of(bulk));
+        limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+        filter = new ConcurrencyLimitFilter(limiter, properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    // ===============================
+    // Per-route latency thresholds
+    // ===============================
+
+    @Test
+    void doFilter_WhenDefaultRouteIsSlow_ShouldShrinkLimit() throws Exception {
+        // When
+        MockHttpServletResponse response = send("GET", "/api/users/1", Duration.ofMillis(500));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void doFilter_WhenExcludedRouteIsSlow_ShouldKeepLimit() throws Exception {
+        // When
+        send("POST", "/api/users/bulk", Duration.ofSeconds(10));
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void doFilter_WhenRuleMethodDoesNotMatch_ShouldUseDefaultThreshold() throws Exception {
+        // When
+        send("GET", "/api/users/bulk", Duration.ofMillis(500));
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    private MockHttpServletResponse send(String method, String uri, Duration latency) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> clock.addAndGet(latency.toNanos());
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,95 @@
+package com.partnerhub.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DatabaseBulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleRepositoryImpl());
+        proxyFactory.addAspect(new DatabaseBulkhead(1, Duration.ZERO, meterRegistry));
+        repository = proxyFactory.getProxy();
+    }
+
+    @Test
+    void guard_ShouldRecordWaitAndHoldPerRepositoryMethod() {
+        // When
+        repository.call(() -> "result");
+
+        // Then
+        assertThat(meterRegistry.get("db.bulkhead.wait").tags("target", "SampleRepository", "method", "call")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.bulkhead.hold").tags("target", "SampleRepository", "method", "call")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.bulkhead.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void guard_WhenNestedOnSameThread_ShouldReusePermit() {
+        // When
+        String result = repository.call(() -> repository.call(() -> "nested"));
+
+        // Then
+        assertThat(result).isEqualTo("nested");
+        assertThat(meterRegistry.get("db.bulkhead.hold").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void guard_WhenNoPermitAvailable_ShouldFailFast() throws Exception {
+        // Given
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> repository.call(() -> {
+            holding.countDown();
+            await(release);
+            return "done";
+        }));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> repository.call(() -> "rejected"))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(meterRegistry.get("db.bulkhead.rejections").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(repository.call(() -> "after")).isEqualTo("after");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    interface SampleRepository extends Repository<Object, Long> {
+
+        String call(Supplier<String> work);
+    }
+
+    static class SampleRepositoryImpl implements SampleRepository {
+
+        @Override
+        public String call(Supplier<String> work) {
+            return work.get();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.partnerhub.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(
+                rule("/api/users/bulk", List.of("POST"), 2, 1),
+                rule("/api/**", List.of(), 100, 100)));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, false, new ObjectMapper(), meterRegistry, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // ===============================
+    // Bucket limits
+    // ===============================
+
+    @Test
+    void doFilter_WhenBurstIsExhausted_ShouldReturn429WithRetryAfter() throws Exception {
+        // Given
+        authenticate("partner-a");
+        send("POST", "/api/users/bulk");
+        send("POST", "/api/users/bulk");
+
+        // When
+        MockHttpServletResponse response = send("POST", "/api/users/bulk");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("Rate limit exceeded");
+        assertThat(meterRegistry.get("rate.limit.rejections").tag("rule", "/api/users/bulk").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_AfterRefillInterval_ShouldAllowAgain() throws Exception {
+        // Given
+        authenticate("partner-a");
+        send("POST", "/api/users/bulk");
+        send("POST", "/api/users/bulk");
+        assertThat(send("POST", "/api/users/bulk").getStatus()).isEqualTo(429);
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertThat(send("POST", "/api/users/bulk").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void doFilter_ShouldKeepSeparateBucketsPerClient() throws Exception {
+        // Given
+        authenticate("partner-a");
+        send("POST", "/api/users/bulk");
+        send("POST", "/api/users/bulk");
+
+        // When
+        authenticate("partner-b");
+
+        // Then
+        assertThat(send("POST", "/api/users/bulk").getStatus()).isEqualTo(200);
+    }
+
+    // ===============================
+    // Rule matching
+    // ===============================
+
+    @Test
+    void doFilter_WhenMethodDoesNotMatch_ShouldFallThroughToNextRule() throws Exception {
+        // Given
+        authenticate("partner-a");
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("GET", "/api/users/bulk").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void doFilter_WhenNoRuleMatches_ShouldNotLimit() throws Exception {
+        // Given
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule("/api/users/bulk", List.of(), 1, 1)));
+        filter = new RateLimitFilter(properties, false, new ObjectMapper(), meterRegistry, clock::get);
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("GET", "/api/users").getStatus()).isEqualTo(200);
+        }
+    }
+
+    // ===============================
+    // Pre-authentication rules
+    // ===============================
+
+    @Test
+    void doFilter_WhenPreAuthenticationRule_ShouldLimitAnonymousRequestsByRemoteAddress() throws Exception {
+        // Given
+        filter = new RateLimitFilter(preAuthenticationProperties(), true, new ObjectMapper(), meterRegistry, clock::get);
+        send("POST", "/api/auth/token");
+        send("POST", "/api/auth/token");
+
+        // When
+        MockHttpServletResponse response = send("POST", "/api/auth/token");
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.get("rate.limit.rejections").tag("rule", "/api/auth/token").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_WhenPreAuthenticationFilter_ShouldNotLimitOtherRules() throws Exception {
+        // Given
+        filter = new RateLimitFilter(preAuthenticationProperties(), true, new ObjectMapper(), meterRegistry, clock::get);
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("POST", "/api/users/bulk").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void doFilter_WhenRouteIsLimitedBeforeAuthentication_ShouldSkipItAfterAuthentication() throws Exception {
+        // Given
+        filter = new RateLimitFilter(preAuthenticationProperties(), false, new ObjectMapper(), meterRegistry, clock::get);
+        authenticate("partner-a");
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("POST", "/api/auth/token").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private static RateLimitProperties preAuthenticationProperties() {
+        RateLimitProperties.Rule token = rule("/api/auth/token", List.of(), 2, 1);
+        token.setPreAuthentication(true);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(token, rule("/api/**", List.of(), 1, 1)));
+        return properties;
+    }
+
+    private MockHttpServletResponse send(String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    private static RateLimitProperties.Rule rule(String pattern, List<String> methods, int capacity, double refillPerSecond) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setPattern(pattern);
+        rule.setMethods(methods);
+        rule.setCapacity(capacity);
+        rule.setRefillPerSecond(refillPerSecond);
+        return rule;
+    }
+}
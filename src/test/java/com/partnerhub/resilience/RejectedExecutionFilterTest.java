@@ -0,0 +1,72 @@
+package com.partnerhub.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RejectedExecutionFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RejectedExecutionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RejectedExecutionFilter(new ObjectMapper(), meterRegistry);
+    }
+
+    // ===============================
+    // Shedding
+    // ===============================
+
+    @Test
+    void doFilter_WhenChainRejectsWork_ShouldAnswer503WithRetryAfter() throws Exception {
+        // When
+        MockHttpServletResponse response = send((req, res) -> {
+            throw new RejectedExecutionException("Task rejected from password-hashing");
+        });
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("Server is busy, please retry later");
+        assertThat(meterRegistry.get("executor.rejections").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_WhenRejectionIsWrapped_ShouldAnswer503() throws Exception {
+        // When
+        MockHttpServletResponse response = send((req, res) -> {
+            throw new ServletException("Request processing failed", new RejectedExecutionException("full"));
+        });
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    void doFilter_WhenChainFailsOtherwise_ShouldRethrow() {
+        // When & Then
+        assertThatThrownBy(() -> send((req, res) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("executor.rejections").counter().count()).isZero();
+    }
+
+    private MockHttpServletResponse send(FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
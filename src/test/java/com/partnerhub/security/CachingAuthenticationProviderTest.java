@@ -0,0 +1,99 @@
+package com.partnerhub.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    private InMemoryUserDetailsManager userDetailsService;
+    private AuthenticationProvider verifier;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        userDetailsService = new InMemoryUserDetailsManager(User.withUsername("admin")
+                .password(passwordEncoder.encode("secret"))
+                .roles("ADMIN")
+                .build());
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(userDetailsService);
+        dao.setPasswordEncoder(passwordEncoder);
+        verifier = spy(dao);
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new CachingAuthenticationProvider(verifier, userDetailsService, Duration.ofMinutes(1), 100, meterRegistry);
+    }
+
+    @Test
+    void authenticate_WhenSameCredentialsRepeat_ShouldVerifyHashOnce() {
+        // When
+        Authentication first = provider.authenticate(credentials("admin", "secret"));
+        Authentication second = provider.authenticate(credentials("admin", "secret"));
+
+        // Then
+        assertThat(first.isAuthenticated()).isTrue();
+        assertThat(second).isSameAs(first);
+        verify(verifier, times(1)).authenticate(any());
+        assertThat(meterRegistry.get("security.authentication.verification").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "authentication").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void authenticate_WhenPasswordIsWrong_ShouldNotCacheFailure() {
+        // When & Then
+        assertThatThrownBy(() -> provider.authenticate(credentials("admin", "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> provider.authenticate(credentials("admin", "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+
+        verify(verifier, times(2)).authenticate(any());
+    }
+
+    @Test
+    void authenticate_WhenPasswordChanged_ShouldRejectCachedCredentials() {
+        // Given
+        provider.authenticate(credentials("admin", "secret"));
+        userDetailsService.updateUser(User.withUsername("admin")
+                .password("{noop}new-secret")
+                .roles("ADMIN")
+                .build());
+
+        // When & Then
+        assertThatThrownBy(() -> provider.authenticate(credentials("admin", "secret")))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(provider.authenticate(credentials("admin", "new-secret")).isAuthenticated()).isTrue();
+    }
+
+    @Test
+    void invalidate_ShouldForceVerificationOnNextRequest() {
+        // Given
+        provider.authenticate(credentials("admin", "secret"));
+
+        // When
+        provider.invalidate("admin");
+        provider.authenticate(credentials("admin", "secret"));
+
+        // Then
+        verify(verifier, times(2)).authenticate(any());
+    }
+
+    private static UsernamePasswordAuthenticationToken credentials(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
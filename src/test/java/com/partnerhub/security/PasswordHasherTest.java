@@ -0,0 +1,104 @@
+package com.partnerhub.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private ThreadPoolExecutor executor;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(2));
+        passwordHasher = new PasswordHasher(encoders("bcrypt", 4), executor, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void encode_ShouldHashOnPoolThread() {
+        AtomicReference<String> hashingThread = new AtomicReference<>();
+        PasswordEncoder recordingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashingThread.set(Thread.currentThread().getName());
+                return "hashed";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(recordingEncoder, executor, 2);
+
+        assertThat(hasher.encode("secret")).isEqualTo("hashed");
+        assertThat(hashingThread.get()).isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    void encodeAll_ShouldKeepInputOrder() {
+        List<String> raw = List.of("one", "two", "three", "four", "five");
+
+        List<String> hashes = passwordHasher.encodeAll(raw);
+
+        assertThat(hashes).hasSize(5);
+        for (int i = 0; i < raw.size(); i++) {
+            assertThat(passwordHasher.matches(raw.get(i), hashes.get(i))).isTrue();
+        }
+    }
+
+    @Test
+    void upgradeEncoding_WhenAlgorithmOrCostIsOutdated_ShouldReportUpgrade() {
+        PasswordHasher stronger = new PasswordHasher(encoders("bcrypt", 5), executor, 2);
+
+        assertThat(stronger.upgradeEncoding("{noop}admin")).isTrue();
+        assertThat(stronger.upgradeEncoding(passwordHasher.encode("secret"))).isTrue();
+        assertThat(stronger.upgradeEncoding(stronger.encode("secret"))).isFalse();
+    }
+
+    @Test
+    void encode_WhenPoolAndQueueAreFull_ShouldReject() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                release.await();
+                return null;
+            });
+        }
+
+        try {
+            assertThatThrownBy(() -> passwordHasher.encode("secret")).isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static PasswordEncoder encoders(String idForEncode, int bcryptStrength) {
+        return new DelegatingPasswordEncoder(idForEncode, Map.of(
+                "bcrypt", new BCryptPasswordEncoder(bcryptStrength),
+                "noop", NoOpPasswordEncoder.getInstance()
+        ));
+    }
+}
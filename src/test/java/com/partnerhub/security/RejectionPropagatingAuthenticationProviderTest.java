@@ -0,0 +1,74 @@
+package com.partnerhub.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RejectionPropagatingAuthenticationProviderTest {
+
+    private ThreadPoolExecutor executor;
+    private RejectionPropagatingAuthenticationProvider provider;
+
+    @BeforeEach
+    @SuppressWarnings("deprecation")
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        InMemoryUserDetailsManager userDetailsService = new InMemoryUserDetailsManager(User.withUsername("admin")
+                .password("secret")
+                .roles("ADMIN")
+                .build());
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(userDetailsService);
+        dao.setPasswordEncoder(new PasswordHasher(NoOpPasswordEncoder.getInstance(), executor, 1));
+        provider = new RejectionPropagatingAuthenticationProvider(dao);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void authenticate_WhenHashingPoolIsSaturated_ShouldThrowRejectionInsteadOfAuthenticationFailure() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> {
+                release.await();
+                return null;
+            });
+        }
+
+        try {
+            // When & Then
+            assertThatThrownBy(() -> provider.authenticate(credentials("admin", "secret")))
+                    .isExactlyInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void authenticate_WhenPasswordIsWrong_ShouldStillFailAuthentication() {
+        // When & Then
+        assertThatThrownBy(() -> provider.authenticate(credentials("admin", "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    private static UsernamePasswordAuthenticationToken credentials(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
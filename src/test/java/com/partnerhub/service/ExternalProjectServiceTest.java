@@ -2,12 +2,25 @@ package com.partnerhub.service;
 
 import com.partnerhub.domain.ExternalProject;
 import com.partnerhub.domain.User;
+import com.partnerhub.dto.ExternalProjectBulkResponseDTO;
+import com.partnerhub.dto.ExternalProjectResponseDTO;
 import com.partnerhub.dto.ExternalProjectUpdateRequestDTO;
+import com.partnerhub.exception.BadRequestException;
 import com.partnerhub.exception.NotFoundException;
+import com.partnerhub.logging.SamplingPolicy;
+import com.partnerhub.pagination.CursorPage;
+import com.partnerhub.pagination.Cursors;
+import com.partnerhub.pagination.ProjectSort;
 import com.partnerhub.repository.ExternalProjectRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,7 +37,7 @@ class ExternalProjectServiceTest {
     void setUp() {
         externalProjectRepository = mock(ExternalProjectRepository.class);
         userService = mock(UserService.class);
-        externalProjectService = new ExternalProjectService(externalProjectRepository, userService);
+        externalProjectService = new ExternalProjectService(externalProjectRepository, userService, SamplingPolicy.off());
     }
 
     // ===============================
@@ -36,15 +49,13 @@ class ExternalProjectServiceTest {
         Long userId = 1L;
         User user = new User();
         user.setId(userId);
-        user.setEmail("a@b.com");
 
         ExternalProject project = new ExternalProject();
         project.setId("p1");
         project.setName("Project 1");
 
-        when(userService.findById(userId)).thenReturn(user);
-        when(externalProjectRepository.findById(project.getId())).thenReturn(Optional.empty());
-        when(externalProjectRepository.save(any(ExternalProject.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userService.getReference(userId)).thenReturn(user);
+        when(externalProjectRepository.insert(any(ExternalProject.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         ExternalProject saved = externalProjectService.addProject(userId, project);
 
@@ -52,9 +63,11 @@ class ExternalProjectServiceTest {
         assertThat(saved.getName()).isEqualTo("Project 1");
         assertThat(saved.getUser()).isEqualTo(user);
 
-        verify(userService).findById(userId);
-        verify(externalProjectRepository).findById(project.getId());
-        verify(externalProjectRepository).save(project);
+        verify(userService).getReference(userId);
+        verify(externalProjectRepository).insert(project);
+        verify(userService, never()).findById(any());
+        verify(externalProjectRepository, never()).findById(any());
+        verify(externalProjectRepository, never()).save(any());
     }
 
     @Test
@@ -64,40 +77,78 @@ class ExternalProjectServiceTest {
         project.setId("pX");
         project.setName("Project X");
 
-        when(userService.findById(userId)).thenThrow(new NotFoundException("User with ID 777 not found"));
+        when(externalProjectRepository.insert(any(ExternalProject.class)))
+                .thenThrow(violation("insert or update violates foreign key constraint \"fk_user\"", "23503"));
 
         assertThatThrownBy(() -> externalProjectService.addProject(userId, project))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("User with ID 777 not found");
 
-        verify(userService).findById(userId);
-        verify(externalProjectRepository, never()).save(any());
+        verify(userService).getReference(userId);
     }
 
     @Test
     void addProject_WhenProjectAlreadyExistsForUser_ShouldThrowIllegalArgumentException() {
         Long userId = 2L;
-        User user = new User();
-        user.setId(userId);
-
-        ExternalProject existingProject = new ExternalProject();
-        existingProject.setId("p1");
-        existingProject.setUser(user);
-
         ExternalProject newProject = new ExternalProject();
         newProject.setId("p1");
         newProject.setName("New Project");
 
-        when(userService.findById(userId)).thenReturn(user);
-        when(externalProjectRepository.findById("p1")).thenReturn(Optional.of(existingProject));
+        when(externalProjectRepository.insert(any(ExternalProject.class)))
+                .thenThrow(violation("duplicate key value violates unique constraint", "23505"));
 
         assertThatThrownBy(() -> externalProjectService.addProject(userId, newProject))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("already exists for user with ID 2");
 
-        verify(userService).findById(userId);
-        verify(externalProjectRepository).findById("p1");
-        verify(externalProjectRepository, never()).save(any());
+        verify(externalProjectRepository, never()).findById(any());
+    }
+
+    // ===============================
+    // BULK UPSERT TESTS
+    // ===============================
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertProjects_WhenIdIsRepeated_ShouldKeepLastOccurrence() {
+        Long userId = 1L;
+        ExternalProject first = createProject("p1", "First name");
+        ExternalProject other = createProject("p2", "Other");
+        ExternalProject last = createProject("p1", "Last name");
+
+        when(externalProjectRepository.upsertAll(eq(userId), any()))
+                .thenReturn(new ExternalProjectBulkResponseDTO(1, 1, 0));
+
+        ExternalProjectBulkResponseDTO result =
+                externalProjectService.upsertProjects(userId, List.of(first, other, last));
+
+        ArgumentCaptor<Collection<ExternalProject>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(externalProjectRepository).upsertAll(eq(userId), captor.capture());
+        assertThat(captor.getValue()).containsExactly(last, other);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void upsertProjects_WhenUserDoesNotExist_ShouldThrowNotFoundException() {
+        Long userId = 404L;
+        when(externalProjectRepository.upsertAll(eq(userId), any()))
+                .thenThrow(violation("insert or update violates foreign key constraint \"fk_user\"", "23503"));
+
+        assertThatThrownBy(() -> externalProjectService.upsertProjects(userId, List.of(createProject("p1", "P"))))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("User with ID 404 not found");
+    }
+
+    @Test
+    void upsertProjects_WhenOtherConstraintFails_ShouldPropagate() {
+        Long userId = 1L;
+        DataIntegrityViolationException valueTooLong = violation("value too long", "22001");
+        when(externalProjectRepository.upsertAll(eq(userId), any())).thenThrow(valueTooLong);
+
+        assertThatThrownBy(() -> externalProjectService.upsertProjects(userId, List.of(createProject("p1", "P"))))
+                .isSameAs(valueTooLong);
     }
 
     // ===============================
@@ -107,37 +158,108 @@ class ExternalProjectServiceTest {
     @Test
     void getProjectsByUserId_WhenProjectsExist_ShouldReturnProjectsList() {
         Long userId = 2L;
-        User user = new User();
-        user.setId(userId);
-        user.setEmail("b@c.com");
-
-        ExternalProject p1 = new ExternalProject();
+        ExternalProjectResponseDTO p1 = new ExternalProjectResponseDTO();
         p1.setId("p1");
         p1.setName("X");
-        p1.setUser(user);
 
-        ExternalProject p2 = new ExternalProject();
+        ExternalProjectResponseDTO p2 = new ExternalProjectResponseDTO();
         p2.setId("p2");
         p2.setName("Y");
-        p2.setUser(user);
 
-        when(externalProjectRepository.findByUserId(userId)).thenReturn(List.of(p1, p2));
+        when(externalProjectRepository.findResponsesByUserId(userId)).thenReturn(List.of(p1, p2));
 
-        List<ExternalProject> projects = externalProjectService.getProjectsByUserId(userId);
+        List<ExternalProjectResponseDTO> projects = externalProjectService.getProjectsByUserId(userId);
 
         assertThat(projects).hasSize(2);
         assertThat(projects).containsExactly(p1, p2);
-        verify(externalProjectRepository).findByUserId(userId);
+        verify(externalProjectRepository).findResponsesByUserId(userId);
+        verify(externalProjectRepository, never()).findByUserId(any());
     }
 
     @Test
     void getProjectsByUserId_WhenNoProjects_ShouldReturnEmptyList() {
-        when(externalProjectRepository.findByUserId(333L)).thenReturn(List.of());
+        when(externalProjectRepository.findResponsesByUserId(333L)).thenReturn(List.of());
 
-        List<ExternalProject> projects = externalProjectService.getProjectsByUserId(333L);
+        List<ExternalProjectResponseDTO> projects = externalProjectService.getProjectsByUserId(333L);
 
         assertThat(projects).isEmpty();
-        verify(externalProjectRepository).findByUserId(333L);
+        verify(externalProjectRepository).findResponsesByUserId(333L);
+    }
+
+    @Test
+    void getProjectPage_WhenFirstPageByCreatedAt_ShouldTrimAndReturnNextCursor() {
+        Long userId = 2L;
+        ExternalProjectResponseDTO p1 = new ExternalProjectResponseDTO();
+        p1.setId("p1");
+        p1.setCreatedAt(Instant.parse("2024-01-01T10:00:00Z"));
+        ExternalProjectResponseDTO p2 = new ExternalProjectResponseDTO();
+        p2.setId("p2");
+        p2.setCreatedAt(Instant.parse("2024-01-02T10:00:00Z"));
+
+        when(externalProjectRepository.findResponsePageByCreatedAt(userId, Limit.of(2)))
+                .thenReturn(List.of(p1, p2));
+
+        CursorPage<ExternalProjectResponseDTO> page = externalProjectService.getProjectPage(userId, ProjectSort.CREATED_AT, null, 1);
+
+        assertThat(page.getItems()).containsExactly(p1);
+        assertThat(Cursors.decode(page.getNextCursor(), 3))
+                .containsExactly("createdAt", "2024-01-01T10:00:00Z", "p1");
+    }
+
+    @Test
+    void getProjectPage_WhenCursorGivenSortedByName_ShouldContinueAfterCursor() {
+        Long userId = 2L;
+        ExternalProjectResponseDTO p2 = new ExternalProjectResponseDTO();
+        p2.setId("p2");
+        p2.setName("Beta");
+        String cursor = Cursors.encode("name", "Alpha", "p1");
+
+        when(externalProjectRepository.findResponsePageAfterName(userId, "Alpha", "p1", Limit.of(3)))
+                .thenReturn(List.of(p2));
+
+        CursorPage<ExternalProjectResponseDTO> page =
+                externalProjectService.getProjectPage(userId, ProjectSort.NAME, cursor, 2);
+
+        assertThat(page.getItems()).containsExactly(p2);
+        assertThat(page.hasNext()).isFalse();
+        verify(externalProjectRepository).findResponsePageAfterName(userId, "Alpha", "p1", Limit.of(3));
+    }
+
+    @Test
+    void getProjectPage_WhenCursorWasIssuedForAnotherSort_ShouldThrowBadRequestException() {
+        String cursor = Cursors.encode("name", "Alpha", "p1");
+
+        assertThatThrownBy(() -> externalProjectService.getProjectPage(2L, ProjectSort.CREATED_AT, cursor, 2))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("does not match the requested sort");
+
+        verifyNoInteractions(externalProjectRepository);
+    }
+
+    @Test
+    void getProject_WhenUserOwnsProject_ShouldUsePrimaryKeyLookupOnly() {
+        Long userId = 1L;
+        ExternalProjectResponseDTO project = new ExternalProjectResponseDTO(
+                "p-1", "Project", Instant.parse("2024-01-01T12:00:00Z"), Instant.parse("2024-06-14T12:00:00Z"));
+        when(externalProjectRepository.findResponseByUserIdAndId(userId, "p-1")).thenReturn(Optional.of(project));
+
+        ExternalProjectResponseDTO result = externalProjectService.getProject(userId, "p-1");
+
+        assertThat(result).isSameAs(project);
+        verifyNoInteractions(userService);
+        verify(externalProjectRepository, never()).existsForAnyUser(any());
+    }
+
+    @Test
+    void getProject_WhenProjectBelongsToAnotherUser_ShouldThrowNotFoundException() {
+        Long userId = 2L;
+        when(externalProjectRepository.findResponseByUserIdAndId(userId, "p-1")).thenReturn(Optional.empty());
+        when(userService.existsById(userId)).thenReturn(true);
+        when(externalProjectRepository.existsForAnyUser("p-1")).thenReturn(true);
+
+        assertThatThrownBy(() -> externalProjectService.getProject(userId, "p-1"))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Project with ID p-1 does not belong to user with ID 2");
     }
 
     // ===============================
@@ -151,13 +273,15 @@ class ExternalProjectServiceTest {
         ExternalProjectUpdateRequestDTO dto = new ExternalProjectUpdateRequestDTO();
         dto.setName("New Name");
 
-        when(userService.findById(userId)).thenThrow(new NotFoundException("User with ID 1000 not found"));
+        when(externalProjectRepository.rename(userId, projectId, "New Name")).thenReturn(Optional.empty());
+        when(userService.existsById(userId)).thenReturn(false);
 
         assertThatThrownBy(() -> externalProjectService.updateProject(userId, projectId, dto))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("User with ID 1000 not found");
 
-        verify(userService).findById(userId);
+        verify(externalProjectRepository).rename(userId, projectId, "New Name");
+        verify(userService).existsById(userId);
         verifyNoMoreInteractions(userService, externalProjectRepository);
     }
 
@@ -165,74 +289,67 @@ class ExternalProjectServiceTest {
     void updateProject_WhenProjectDoesNotExist_ShouldThrowNotFoundException() {
         Long userId = 11L;
         String projectId = "does-not-exist";
-        User user = new User();
-        user.setId(userId);
         ExternalProjectUpdateRequestDTO dto = new ExternalProjectUpdateRequestDTO();
         dto.setName("Project");
 
-        when(userService.findById(userId)).thenReturn(user);
-        when(externalProjectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(externalProjectRepository.rename(userId, projectId, "Project")).thenReturn(Optional.empty());
+        when(userService.existsById(userId)).thenReturn(true);
+        when(externalProjectRepository.existsForAnyUser(projectId)).thenReturn(false);
 
         assertThatThrownBy(() -> externalProjectService.updateProject(userId, projectId, dto))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Project with ID does-not-exist not found");
 
-        verify(userService).findById(userId);
-        verify(externalProjectRepository).findById(projectId);
+        verify(externalProjectRepository).existsById(projectId);
     }
 
     @Test
     void updateProject_WhenProjectDoesNotBelongToUser_ShouldThrowNotFoundException() {
         Long userId = 123L;
         String projectId = "p-1";
-        User user = new User();
-        user.setId(userId);
-        User anotherUser = new User();
-        anotherUser.setId(999L);
-
-        ExternalProject existingProject = new ExternalProject();
-        existingProject.setId(projectId);
-        existingProject.setName("Project");
-        existingProject.setUser(anotherUser);
-
         ExternalProjectUpdateRequestDTO dto = new ExternalProjectUpdateRequestDTO();
         dto.setName("Updated Name");
 
-        when(userService.findById(userId)).thenReturn(user);
-        when(externalProjectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+        when(externalProjectRepository.rename(userId, projectId, "Updated Name")).thenReturn(Optional.empty());
+        when(userService.existsById(userId)).thenReturn(true);
+        when(externalProjectRepository.existsForAnyUser(projectId)).thenReturn(true);
 
         assertThatThrownBy(() -> externalProjectService.updateProject(userId, projectId, dto))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Project with ID p-1 does not belong to user with ID 123");
-
-        verify(userService).findById(userId);
-        verify(externalProjectRepository).findById(projectId);
-        verify(externalProjectRepository, never()).save(any());
     }
 
     @Test
     void updateProject_WhenValidDataAndProjectBelongsToUser_ShouldReturnUpdatedProject() {
         Long userId = 1L;
         String projectId = "p-1";
-        User user = new User(); user.setId(userId);
-        ExternalProject project = new ExternalProject();
-        project.setId(projectId);
-        project.setName("Old Name");
-        project.setUser(user);
-
         ExternalProjectUpdateRequestDTO dto = new ExternalProjectUpdateRequestDTO();
         dto.setName("New Project Name");
 
-        when(userService.findById(userId)).thenReturn(user);
-        when(externalProjectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(externalProjectRepository.save(any(ExternalProject.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ExternalProjectResponseDTO renamed = new ExternalProjectResponseDTO(
+                projectId, "New Project Name", Instant.parse("2024-01-01T12:00:00Z"), Instant.now());
+        when(externalProjectRepository.rename(userId, projectId, "New Project Name")).thenReturn(Optional.of(renamed));
 
-        ExternalProject updated = externalProjectService.updateProject(userId, projectId, dto);
+        ExternalProjectResponseDTO updated = externalProjectService.updateProject(userId, projectId, dto);
 
         assertThat(updated.getName()).isEqualTo("New Project Name");
-        assertThat(updated.getUser()).isEqualTo(user);
-        verify(userService).findById(userId);
-        verify(externalProjectRepository).findById(projectId);
-        verify(externalProjectRepository).save(project);
+        verify(externalProjectRepository).rename(userId, projectId, "New Project Name");
+        verifyNoInteractions(userService);
+        verifyNoMoreInteractions(externalProjectRepository);
+    }
+
+    // ===============================
+    // HELPER METHODS
+    // ===============================
+
+    private DataIntegrityViolationException violation(String message, String sqlState) {
+        return new DataIntegrityViolationException(message, new SQLException(message, sqlState));
+    }
+
+    private ExternalProject createProject(String id, String name) {
+        ExternalProject project = new ExternalProject();
+        project.setId(id);
+        project.setName(name);
+        return project;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.partnerhub.service;
+
+import com.partnerhub.config.TokenConfig;
+import com.partnerhub.dto.TokenResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.security.KeyPair;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private TokenConfig tokenConfig;
+    private KeyPair keyPair;
+    private JwtDecoder jwtDecoder;
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tokenConfig = new TokenConfig();
+        keyPair = tokenConfig.tokenSigningKeyPair(new DefaultResourceLoader(), "", "");
+        jwtDecoder = tokenConfig.jwtDecoder(keyPair, "partner-hub");
+        tokenService = new TokenService(tokenConfig.jwtEncoder(keyPair), "partner-hub", Duration.ofMinutes(15));
+    }
+
+    @Test
+    void issueToken_ShouldSignVerifiableTokenWithRoles() {
+        // Given
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+        // When
+        TokenResponseDTO response = tokenService.issueToken(authentication);
+
+        // Then
+        assertThat(response.getTokenType()).isEqualTo("Bearer");
+        assertThat(response.getExpiresIn()).isEqualTo(900);
+
+        Jwt jwt = jwtDecoder.decode(response.getAccessToken());
+        assertThat(jwt.getSubject()).isEqualTo("admin");
+        assertThat(jwt.getClaimAsStringList(TokenConfig.ROLES_CLAIM)).containsExactly("ROLE_ADMIN");
+        assertThat(tokenConfig.jwtAuthenticationConverter().convert(jwt).getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void issueToken_WhenIssuerDiffers_ShouldBeRejectedByDecoder() {
+        // Given
+        TokenService foreignIssuer = new TokenService(tokenConfig.jwtEncoder(keyPair), "someone-else", Duration.ofMinutes(15));
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+        // When
+        String token = foreignIssuer.issueToken(authentication).getAccessToken();
+
+        // Then
+        assertThatThrownBy(() -> jwtDecoder.decode(token)).isInstanceOf(JwtValidationException.class);
+    }
+
+    @Test
+    void issueToken_WhenSignedWithAnotherKey_ShouldBeRejectedByDecoder() throws Exception {
+        // Given
+        KeyPair otherKeys = tokenConfig.tokenSigningKeyPair(new DefaultResourceLoader(), "", "");
+        TokenService otherService = new TokenService(tokenConfig.jwtEncoder(otherKeys), "partner-hub", Duration.ofMinutes(15));
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+        // When
+        String token = otherService.issueToken(authentication).getAccessToken();
+
+        // Then
+        assertThatThrownBy(() -> jwtDecoder.decode(token))
+                .isInstanceOf(BadJwtException.class);
+    }
+}
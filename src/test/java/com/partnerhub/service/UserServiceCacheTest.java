@@ -0,0 +1,164 @@
+package com.partnerhub.service;
+
+import com.partnerhub.config.CacheConfig;
+import com.partnerhub.domain.User;
+import com.partnerhub.dto.UserResponseDTO;
+import com.partnerhub.dto.UserUpdateRequestDTO;
+import com.partnerhub.logging.SamplingPolicy;
+import com.partnerhub.repository.UserRepository;
+import com.partnerhub.security.PasswordHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Exercises the caching advice on {@link UserService} through a Spring proxy, with the repository mocked.
+ */
+@SpringJUnitConfig
+class UserServiceCacheTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.USERS, CacheConfig.USER_VERSIONS);
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
+        @Bean
+        UserService userService(UserRepository userRepository) {
+            return new UserService(userRepository, mock(PasswordHasher.class), SamplingPolicy.off());
+        }
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        reset(userRepository);
+        when(userRepository.findResponseById(1L)).thenReturn(Optional.of(response(1L)));
+        when(userRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(UPDATED_AT));
+    }
+
+    // ===============================
+    // READ TESTS
+    // ===============================
+
+    @Test
+    void findResponseById_WhenCached_ShouldNotHitRepository() {
+        // When
+        UserResponseDTO first = userService.findResponseById(1L);
+        UserResponseDTO second = userService.findResponseById(1L);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findResponseById(1L);
+    }
+
+    @Test
+    void findVersion_WhenCached_ShouldNotHitRepository() {
+        // When
+        Optional<Instant> first = userService.findVersion(1L);
+        Optional<Instant> second = userService.findVersion(1L);
+
+        // Then
+        assertThat(first).contains(UPDATED_AT);
+        assertThat(second).contains(UPDATED_AT);
+        verify(userRepository, times(1)).findUpdatedAtById(1L);
+    }
+
+    @Test
+    void findVersion_WhenUserMissing_ShouldNotCacheAbsence() {
+        // Given
+        when(userRepository.findUpdatedAtById(2L)).thenReturn(Optional.empty());
+
+        // When
+        userService.findVersion(2L);
+        userService.findVersion(2L);
+
+        // Then
+        verify(userRepository, times(2)).findUpdatedAtById(2L);
+    }
+
+    // ===============================
+    // EVICTION TESTS
+    // ===============================
+
+    @Test
+    void updateUser_ShouldEvictCachedResponseAndVersion() {
+        // Given
+        User user = new User();
+        user.setId(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
+        userService.findResponseById(1L);
+        userService.findVersion(1L);
+
+        UserUpdateRequestDTO dto = new UserUpdateRequestDTO();
+        dto.setEmail("new@b.com");
+        dto.setName("New");
+
+        // When
+        userService.updateUser(1L, dto);
+        userService.findResponseById(1L);
+        userService.findVersion(1L);
+
+        // Then
+        verify(userRepository, times(2)).findResponseById(1L);
+        verify(userRepository, times(2)).findUpdatedAtById(1L);
+    }
+
+    @Test
+    void deleteUser_ShouldEvictCachedResponseAndVersion() {
+        // Given
+        when(userRepository.existsById(1L)).thenReturn(true);
+        userService.findResponseById(1L);
+        userService.findVersion(1L);
+
+        // When
+        userService.deleteUser(1L);
+
+        // Then
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(1L)).isNull();
+        assertThat(cacheManager.getCache(CacheConfig.USER_VERSIONS).get(1L)).isNull();
+        verify(userRepository).deleteById(1L);
+    }
+
+    private static UserResponseDTO response(Long id) {
+        UserResponseDTO dto = new UserResponseDTO();
+        dto.setId(id);
+        dto.setEmail("a@b.com");
+        dto.setName("Test");
+        dto.setUpdatedAt(UPDATED_AT);
+        return dto;
+    }
+}
@@ -1,15 +1,26 @@
 package com.partnerhub.service;
 
 import com.partnerhub.domain.User;
+import com.partnerhub.dto.BulkUserResultDTO;
+import com.partnerhub.dto.UserResponseDTO;
 import com.partnerhub.dto.UserUpdateRequestDTO;
 import com.partnerhub.exception.NotFoundException;
+import com.partnerhub.logging.SamplingPolicy;
+import com.partnerhub.pagination.CursorPage;
+import com.partnerhub.pagination.Cursors;
 import com.partnerhub.repository.UserRepository;
+import com.partnerhub.security.PasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -18,12 +29,19 @@ import static org.mockito.Mockito.*;
 class UserServiceTest {
 
     private UserRepository userRepository;
+    private PasswordHasher passwordHasher;
     private UserService userService;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
-        userService = new UserService(userRepository);
+        passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.encode(ArgumentMatchers.any())).thenAnswer(invocation -> "{test}" + invocation.getArgument(0));
+        when(passwordHasher.encodeAll(ArgumentMatchers.anyList())).thenAnswer(invocation -> {
+            List<String> rawPasswords = invocation.getArgument(0);
+            return rawPasswords.stream().map(raw -> "{test}" + raw).toList();
+        });
+        userService = new UserService(userRepository, passwordHasher, SamplingPolicy.off());
     }
 
     // ===============================
@@ -38,8 +56,7 @@ class UserServiceTest {
         user.setPassword("plainpass");
         user.setName("Test");
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.empty());
-        when(userRepository.save(ArgumentMatchers.any(User.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(ArgumentMatchers.any(User.class))).thenReturn(user);
 
         // When
         User saved = userService.createUser(user);
@@ -48,8 +65,10 @@ class UserServiceTest {
         assertThat(saved).isNotNull();
         assertThat(saved.getEmail()).isEqualTo("a@b.com");
         assertThat(saved.getName()).isEqualTo("Test");
-        verify(userRepository).findByEmail(user.getEmail());
-        verify(userRepository).save(user);
+        assertThat(saved.getPassword()).isEqualTo("{test}plainpass");
+        verify(userRepository, never()).findByEmail(any());
+        verify(passwordHasher).encode("plainpass");
+        verify(userRepository).saveAndFlush(user);
     }
 
     @Test
@@ -60,20 +79,70 @@ class UserServiceTest {
         user.setPassword("plainpass");
         user.setName("Test");
 
-        User existingUser = new User();
-        existingUser.setEmail("a@b.com");
-
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(existingUser));
+        when(userRepository.saveAndFlush(ArgumentMatchers.any(User.class))).thenThrow(violation("23505"));
 
         // When & Then
         assertThatThrownBy(() -> userService.createUser(user))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Email has already been registered");
 
-        verify(userRepository).findByEmail(user.getEmail());
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void createUser_WhenOtherConstraintFails_ShouldRethrowViolation() {
+        // Given
+        User user = createTestUser(null, "a@b.com", "Test");
+        DataIntegrityViolationException violation = violation("23502");
+
+        when(userRepository.saveAndFlush(ArgumentMatchers.any(User.class))).thenThrow(violation);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.createUser(user)).isSameAs(violation);
+    }
+
+    @Test
+    void createUsers_ShouldCheckEmailsOnceAndReportDuplicatesInOrder() {
+        // Given
+        User fresh = createTestUser(null, "fresh@mail.com", "Fresh");
+        User taken = createTestUser(null, "taken@mail.com", "Taken");
+        User repeated = createTestUser(null, "Fresh@Mail.com", "Fresh again");
+
+        when(userRepository.findExistingEmails(Set.of("fresh@mail.com", "taken@mail.com")))
+                .thenReturn(List.of("taken@mail.com"));
+        when(userRepository.saveAll(ArgumentMatchers.<List<User>>any())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(100L));
+            return users;
+        });
+
+        // When
+        List<BulkUserResultDTO> results = userService.createUsers(List.of(fresh, taken, repeated));
+
+        // Then
+        assertThat(results).extracting(BulkUserResultDTO::getStatus).containsExactly(
+                BulkUserResultDTO.Status.CREATED,
+                BulkUserResultDTO.Status.DUPLICATE,
+                BulkUserResultDTO.Status.DUPLICATE);
+        assertThat(results.get(0).getId()).isEqualTo(100L);
+        assertThat(fresh.getPassword()).isEqualTo("{test}password123");
+        verify(passwordHasher).encodeAll(List.of("password123"));
+        verify(userRepository, times(1)).findExistingEmails(ArgumentMatchers.anyCollection());
+        verify(userRepository).saveAll(List.of(fresh));
+        verify(userRepository, never()).findByEmail(any());
         verify(userRepository, never()).save(any());
     }
 
+    @Test
+    void createUsers_WhenEmpty_ShouldNotQueryRepository() {
+        // When
+        List<BulkUserResultDTO> results = userService.createUsers(List.of());
+
+        // Then
+        assertThat(results).isEmpty();
+        verifyNoInteractions(userRepository, passwordHasher);
+    }
+
     // ===============================
     // FIND USER TESTS
     // ===============================
@@ -114,25 +183,80 @@ class UserServiceTest {
     }
 
     @Test
-    void findAll_WhenUsersExist_ShouldReturnUserList() {
+    void findResponseById_WhenUserExists_ShouldReturnProjectedResponse() {
         // Given
-        User user1 = new User();
-        user1.setId(1L);
-        user1.setEmail("user1@test.com");
+        UserResponseDTO response = createUserResponseDTO(1L, "test@example.com");
+        when(userRepository.findResponseById(1L)).thenReturn(Optional.of(response));
+
+        // When
+        UserResponseDTO result = userService.findResponseById(1L);
 
-        User user2 = new User();
-        user2.setId(2L);
-        user2.setEmail("user2@test.com");
+        // Then
+        assertThat(result).isSameAs(response);
+        verify(userRepository).findResponseById(1L);
+        verify(userRepository, never()).findById(any());
+    }
 
-        when(userRepository.findAll()).thenReturn(List.of(user1, user2));
+    @Test
+    void findResponseById_WhenUserNotExists_ShouldThrowNotFoundException() {
+        // Given
+        when(userRepository.findResponseById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> userService.findResponseById(999L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("User with ID 999 not found");
+    }
+
+    @Test
+    void findVersion_ShouldReturnUpdatedAtWithoutLoadingUser() {
+        // Given
+        Instant updatedAt = Instant.parse("2024-06-14T12:00:00Z");
+        when(userRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+        // When
+        Optional<Instant> result = userService.findVersion(1L);
+
+        // Then
+        assertThat(result).contains(updatedAt);
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).findResponseById(any());
+    }
+
+    @Test
+    void findPage_WhenMoreRowsThanLimit_ShouldTrimAndReturnNextCursor() {
+        // Given
+        UserResponseDTO user1 = createUserResponseDTO(1L, "user1@test.com");
+        UserResponseDTO user2 = createUserResponseDTO(2L, "user2@test.com");
+        UserResponseDTO user3 = createUserResponseDTO(3L, "user3@test.com");
+
+        when(userRepository.findResponsePage(Limit.of(3))).thenReturn(List.of(user1, user2, user3));
 
         // When
-        List<User> result = userService.findAll();
+        CursorPage<UserResponseDTO> page = userService.findPage(null, 2);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactly(user1, user2);
-        verify(userRepository).findAll();
+        assertThat(page.getItems()).containsExactly(user1, user2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(Cursors.decodeId(page.getNextCursor())).isEqualTo(2L);
+        verify(userRepository).findResponsePage(Limit.of(3));
+    }
+
+    @Test
+    void findPage_WhenAfterIdGivenAndLastPage_ShouldReturnNoCursor() {
+        // Given
+        UserResponseDTO user3 = createUserResponseDTO(3L, "user3@test.com");
+
+        when(userRepository.findResponsePageAfter(2L, Limit.of(3))).thenReturn(List.of(user3));
+
+        // When
+        CursorPage<UserResponseDTO> page = userService.findPage(2L, 2);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(user3);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        verify(userRepository, never()).findResponsePage(any());
     }
 
     @Test
@@ -189,8 +313,7 @@ class UserServiceTest {
         dto.setEmail("new@email.com");
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(userRepository.findByEmail(dto.getEmail())).thenReturn(Optional.empty());
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         User result = userService.updateUser(userId, dto);
@@ -200,8 +323,8 @@ class UserServiceTest {
         assertThat(result.getEmail()).isEqualTo("new@email.com");
         assertThat(result.getId()).isEqualTo(userId);
         verify(userRepository).findById(userId);
-        verify(userRepository).findByEmail(dto.getEmail());
-        verify(userRepository).save(existingUser);
+        verify(userRepository, never()).findByEmail(any());
+        verify(userRepository).saveAndFlush(existingUser);
     }
 
     @Test
@@ -220,8 +343,7 @@ class UserServiceTest {
                 .hasMessageContaining("User with ID 999 not found");
 
         verify(userRepository).findById(userId);
-        verify(userRepository, never()).findByEmail(any());
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -233,16 +355,12 @@ class UserServiceTest {
         existingUser.setName("Old Name");
         existingUser.setEmail("old@email.com");
 
-        User anotherUser = new User();
-        anotherUser.setId(2L);
-        anotherUser.setEmail("duplicate@email.com");
-
         UserUpdateRequestDTO dto = new UserUpdateRequestDTO();
         dto.setName("New Name");
         dto.setEmail("duplicate@email.com");
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(userRepository.findByEmail(dto.getEmail())).thenReturn(Optional.of(anotherUser));
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation("23505"));
 
         // When & Then
         assertThatThrownBy(() -> userService.updateUser(userId, dto))
@@ -250,8 +368,7 @@ class UserServiceTest {
                 .hasMessageContaining("Email has already been registered");
 
         verify(userRepository).findById(userId);
-        verify(userRepository).findByEmail(dto.getEmail());
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).findByEmail(any());
     }
 
     @Test
@@ -268,7 +385,7 @@ class UserServiceTest {
         dto.setEmail("same@email.com"); // Same email
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         User result = userService.updateUser(userId, dto);
@@ -277,8 +394,8 @@ class UserServiceTest {
         assertThat(result.getName()).isEqualTo("New Name");
         assertThat(result.getEmail()).isEqualTo("same@email.com");
         verify(userRepository).findById(userId);
-        verify(userRepository, never()).findByEmail(any()); // Should not check email since it's the same
-        verify(userRepository).save(existingUser);
+        verify(userRepository, never()).findByEmail(any());
+        verify(userRepository).saveAndFlush(existingUser);
     }
 
     // ===============================
@@ -330,6 +447,17 @@ class UserServiceTest {
         return user;
     }
 
+    private UserResponseDTO createUserResponseDTO(Long id, String email) {
+        UserResponseDTO dto = new UserResponseDTO();
+        dto.setId(id);
+        dto.setEmail(email);
+        return dto;
+    }
+
+    private static DataIntegrityViolationException violation(String sqlState) {
+        return new DataIntegrityViolationException("constraint violated", new SQLException("constraint violated", sqlState));
+    }
+
     private UserUpdateRequestDTO createUpdateRequestDTO(String name, String email) {
         UserUpdateRequestDTO dto = new UserUpdateRequestDTO();
         dto.setName(name);